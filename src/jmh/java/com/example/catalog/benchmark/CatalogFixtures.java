@@ -0,0 +1,48 @@
+package com.example.catalog.benchmark;
+
+import com.example.catalog.Dto.MenuItemResponseDto;
+import com.example.catalog.Dto.RestaurantSummaryDto;
+import com.example.catalog.model.Restaurant;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class CatalogFixtures {
+
+    private CatalogFixtures() {}
+
+    static Restaurant restaurant(long id) {
+        Restaurant restaurant = new Restaurant("Restaurant " + id, id + " Main Street");
+        setId(restaurant, id);
+        return restaurant;
+    }
+
+    static List<RestaurantSummaryDto> summaries(int restaurants) {
+        List<RestaurantSummaryDto> summaries = new ArrayList<>(restaurants);
+        for (long id = 1; id <= restaurants; id++) {
+            summaries.add(new RestaurantSummaryDto(id, "Restaurant " + id, id + " Main Street"));
+        }
+        return summaries;
+    }
+
+    static List<MenuItemResponseDto> menuItems(int restaurants, int itemsPerRestaurant) {
+        List<MenuItemResponseDto> menuItems = new ArrayList<>(restaurants * itemsPerRestaurant);
+        long menuItemId = 1;
+        for (long restaurantId = 1; restaurantId <= restaurants; restaurantId++) {
+            for (int i = 0; i < itemsPerRestaurant; i++, menuItemId++) {
+                menuItems.add(new MenuItemResponseDto(menuItemId, "Dish " + menuItemId, 100 + i, "INR", restaurantId));
+            }
+        }
+        return menuItems;
+    }
+
+    private static void setId(Restaurant restaurant, long id) {
+        try {
+            var field = Restaurant.class.getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(restaurant, id);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.catalog.benchmark;
+
+import com.example.catalog.Dto.MenuItemResponseDto;
+import com.example.catalog.Dto.RestaurantResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Serializes the same DTO lists the controllers return, using a plain ObjectMapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatalogSerializationBenchmark {
+
+    @Param({"10", "1000"})
+    public int restaurants;
+
+    @Param({"20"})
+    public int itemsPerRestaurant;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<RestaurantResponseDto> restaurantList;
+    private List<MenuItemResponseDto> menuItemList;
+
+    @Setup
+    public void setUp() {
+        List<MenuItemResponseDto> menuItems = CatalogFixtures.menuItems(restaurants, itemsPerRestaurant);
+        Map<Long, List<MenuItemResponseDto>> menuItemsByRestaurant = menuItems.stream()
+                .collect(Collectors.groupingBy(MenuItemResponseDto::getRestaurantId));
+        restaurantList = CatalogFixtures.summaries(restaurants).stream()
+                .map(summary -> new RestaurantResponseDto(summary.getId(), summary.getName(), summary.getAddress(),
+                        menuItemsByRestaurant.getOrDefault(summary.getId(), List.of())))
+                .toList();
+        menuItemList = menuItemsByRestaurant.get(1L);
+    }
+
+    @Benchmark
+    public byte[] serializeRestaurants() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(restaurantList);
+    }
+
+    @Benchmark
+    public byte[] serializeMenuItems() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(menuItemList);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.catalog.benchmark;
+
+import com.example.catalog.Dto.MenuItemResponseDto;
+import com.example.catalog.Dto.RestaurantPage;
+import com.example.catalog.Dto.RestaurantSummaryDto;
+import com.example.catalog.model.Restaurant;
+import com.example.catalog.repository.MenuItemRepository;
+import com.example.catalog.repository.RestaurantRepository;
+import com.example.catalog.service.MenuItemService;
+import com.example.catalog.service.RestaurantService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls the services directly, bypassing the cache proxies, so the numbers reflect a cache miss.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatalogServiceBenchmark {
+
+    @Param({"10", "1000"})
+    public int restaurants;
+
+    @Param({"20"})
+    public int itemsPerRestaurant;
+
+    private RestaurantService restaurantService;
+    private MenuItemService menuItemService;
+
+    @Setup
+    public void setUp() {
+        Restaurant restaurant = CatalogFixtures.restaurant(1L);
+        List<RestaurantSummaryDto> summaries = CatalogFixtures.summaries(restaurants);
+        List<MenuItemResponseDto> menuItems = CatalogFixtures.menuItems(restaurants, itemsPerRestaurant);
+        List<MenuItemResponseDto> firstMenu = menuItems.subList(0, itemsPerRestaurant);
+
+        RestaurantRepository restaurantRepository = RepositoryStubs.stub(RestaurantRepository.class, Map.of(
+                "findSummaryPageAfter", args -> summaries,
+                "findById", args -> Optional.of(restaurant)));
+        MenuItemRepository menuItemRepository = RepositoryStubs.stub(MenuItemRepository.class, Map.of(
+                "findByRestaurantIdIn", args -> menuItems,
+                "findByRestaurantId", args -> firstMenu));
+
+        restaurantService = new RestaurantService(restaurantRepository, menuItemRepository, event -> {}, 500, restaurants);
+        menuItemService = new MenuItemService(menuItemRepository, restaurantRepository, event -> {}, new NoOpTransactionManager());
+    }
+
+    @Benchmark
+    public RestaurantPage getAllRestaurants() {
+        return restaurantService.getAllRestaurants();
+    }
+
+    @Benchmark
+    public List<MenuItemResponseDto> getAllMenuItems() {
+        return menuItemService.getAllMenuItems(1L);
+    }
+
+    // Repositories are stubs, so there is nothing to begin or commit.
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
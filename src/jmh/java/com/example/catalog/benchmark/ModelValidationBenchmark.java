@@ -0,0 +1,54 @@
+package com.example.catalog.benchmark;
+
+import com.example.catalog.Exceptions.PriceMustBePositiveException;
+import com.example.catalog.Exceptions.RestaurantNameCannotBeNullOrEmptyException;
+import com.example.catalog.model.MenuItem;
+import com.example.catalog.model.Restaurant;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Constructor validation, both the accepting path and the rejecting path that builds an exception.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelValidationBenchmark {
+
+    public String name = "Margherita Pizza";
+    public String address = "1 Main Street";
+    public long priceMinor = 29900;
+    public String currency = "INR";
+
+    @Benchmark
+    public MenuItem validMenuItem() {
+        return new MenuItem(name, priceMinor, currency);
+    }
+
+    @Benchmark
+    public Restaurant validRestaurant() {
+        return new Restaurant(name, address);
+    }
+
+    @Benchmark
+    public Object invalidMenuItem() {
+        try {
+            return new MenuItem(name, -priceMinor, currency);
+        } catch (PriceMustBePositiveException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object invalidRestaurant() {
+        try {
+            return new Restaurant(" ", address);
+        } catch (RestaurantNameCannotBeNullOrEmptyException e) {
+            return e;
+        }
+    }
+}
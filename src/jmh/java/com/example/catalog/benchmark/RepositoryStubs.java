@@ -0,0 +1,32 @@
+package com.example.catalog.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Builds in-memory repository implementations so benchmarks measure the service code and not a database.
+ * Any method without an answer throws, which keeps a benchmark from silently measuring a no-op.
+ */
+final class RepositoryStubs {
+
+    private RepositoryStubs() {}
+
+    static <T> T stub(Class<T> repositoryType, Map<String, Function<Object[], Object>> answers) {
+        Object proxy = Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType}, (self, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(self);
+                    case "equals" -> self == args[0];
+                    default -> repositoryType.getSimpleName() + "Stub";
+                };
+            }
+            throw new UnsupportedOperationException(repositoryType.getSimpleName() + "." + method.getName() + " is not stubbed");
+        });
+        return repositoryType.cast(proxy);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.catalog.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load test for {@code GET /catalog/restaurants/{id}/menuItems} against a running instance,
+ * either on the servlet/JPA routes or, with {@code api=reactive}, on the R2DBC routes under
+ * {@code /catalog/reactive}.
+ * Requests are issued at a fixed rate and latency is measured from the intended send time, so a
+ * stalled server shows up in the tail instead of silently lowering the request rate.
+ *
+ * <p>Arguments are {@code key=value}: baseUrl, api, label, rate (requests/s), seconds, warmupSeconds,
+ * restaurants (ids 1..n are cycled) and output (report directory).
+ */
+public class MenuItemsLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String restaurantsUrl = options.getOrDefault("baseUrl", "http://localhost:8080")
+                + ("reactive".equals(options.get("api")) ? "/catalog/reactive/restaurants/" : "/catalog/restaurants/");
+        String label = options.getOrDefault("label", "default");
+        int rate = Integer.parseInt(options.getOrDefault("rate", "500"));
+        int seconds = Integer.parseInt(options.getOrDefault("seconds", "60"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmupSeconds", "10"));
+        int restaurants = Integer.parseInt(options.getOrDefault("restaurants", "50"));
+        Path output = Path.of(options.getOrDefault("output", "build/reports/loadtest"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        run(client, restaurantsUrl, rate, warmupSeconds, restaurants);
+        Result result = run(client, restaurantsUrl, rate, seconds, restaurants);
+
+        String report = result.toJson(label, rate, seconds);
+        Files.createDirectories(output);
+        Files.writeString(output.resolve(label + ".json"), report);
+        System.out.println(report);
+    }
+
+    private static Result run(HttpClient client, String restaurantsUrl, int rate, int seconds, int restaurants) throws InterruptedException {
+        int total = rate * seconds;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long[] latencies = new long[total];
+        AtomicInteger errors = new AtomicInteger();
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < total; i++) {
+                long intended = start + i * intervalNanos;
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                int slot = i;
+                URI uri = URI.create(restaurantsUrl + (i % restaurants + 1) + "/menuItems");
+                executor.submit(() -> {
+                    try {
+                        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build(),
+                                HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (IOException | InterruptedException e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[slot] = System.nanoTime() - intended;
+                });
+            }
+        }
+        return new Result(latencies, errors.get());
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 1) {
+                throw new IllegalArgumentException("Expected key=value but got '" + arg + "'");
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    private record Result(long[] latencies, int errors) {
+
+        private double percentileMillis(double percentile) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+
+        private String toJson(String label, int rate, int seconds) {
+            return String.format(Locale.ROOT,
+                    "{\"label\":\"%s\",\"rate\":%d,\"seconds\":%d,\"requests\":%d,\"errors\":%d,"
+                            + "\"p50Millis\":%.3f,\"p90Millis\":%.3f,\"p99Millis\":%.3f,\"maxMillis\":%.3f}",
+                    label, rate, seconds, latencies.length, errors,
+                    percentileMillis(50), percentileMillis(90), percentileMillis(99), percentileMillis(100));
+        }
+    }
+}
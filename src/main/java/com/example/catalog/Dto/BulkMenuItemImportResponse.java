@@ -0,0 +1,16 @@
+package com.example.catalog.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BulkMenuItemImportResponse {
+    private Long restaurantId;
+    private boolean atomic;
+    private boolean rejected;
+    private int inserted;
+    private List<BulkMenuItemResultDto> results;
+}
@@ -0,0 +1,13 @@
+package com.example.catalog.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BulkMenuItemResultDto {
+    private int index;
+    private String name;
+    private BulkMenuItemStatus status;
+    private String message;
+}
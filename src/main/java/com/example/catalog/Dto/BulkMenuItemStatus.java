@@ -0,0 +1,8 @@
+package com.example.catalog.Dto;
+
+public enum BulkMenuItemStatus {
+    CREATED,
+    DUPLICATE,
+    INVALID,
+    SKIPPED
+}
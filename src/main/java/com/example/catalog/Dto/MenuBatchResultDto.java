@@ -0,0 +1,14 @@
+package com.example.catalog.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MenuBatchResultDto {
+    private MenuBatchStatus status;
+    private List<MenuItemResponseDto> menuItems;
+    private String message;
+}
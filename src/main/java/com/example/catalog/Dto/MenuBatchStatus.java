@@ -0,0 +1,6 @@
+package com.example.catalog.Dto;
+
+public enum MenuBatchStatus {
+    FOUND,
+    NOT_FOUND
+}
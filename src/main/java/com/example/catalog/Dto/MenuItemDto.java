@@ -1,11 +1,30 @@
 package com.example.catalog.Dto;
 
+import com.example.catalog.pricing.PriceJsonDeserializer;
+import com.example.catalog.pricing.PriceJsonSerializer;
+import com.example.catalog.pricing.Priced;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 @Getter
 @AllArgsConstructor
-public class MenuItemDto {
+public class MenuItemDto implements Priced {
     private String name;
-    private Double price;
+    // Minor units of the currency; a decimal number on the wire.
+    @JsonSerialize(using = PriceJsonSerializer.class)
+    private long price;
+    // Optional; defaults to MenuItem.DEFAULT_CURRENCY.
+    private String currency;
+
+    @JsonCreator
+    static MenuItemDto fromJson(@JsonProperty("name") String name,
+                                @JsonProperty("price") @JsonDeserialize(using = PriceJsonDeserializer.class) long price,
+                                @JsonProperty("currency") String currency) throws InvalidFormatException {
+        return new MenuItemDto(name, PriceJsonDeserializer.toMinorUnits(price, currency), currency);
+    }
 }
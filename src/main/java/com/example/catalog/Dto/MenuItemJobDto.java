@@ -0,0 +1,14 @@
+package com.example.catalog.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MenuItemJobDto {
+    private String jobId;
+    private Long restaurantId;
+    private String name;
+    private MenuItemJobStatus status;
+    private String message;
+}
@@ -0,0 +1,9 @@
+package com.example.catalog.Dto;
+
+public enum MenuItemJobStatus {
+    QUEUED,
+    CREATED,
+    DUPLICATE,
+    INVALID,
+    FAILED
+}
@@ -0,0 +1,34 @@
+package com.example.catalog.Dto;
+
+import com.example.catalog.pricing.PriceJsonDeserializer;
+import com.example.catalog.pricing.PriceJsonSerializer;
+import com.example.catalog.pricing.Priced;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MenuItemResponseDto implements Priced {
+    private Long id;
+    private String name;
+    // Minor units of the currency; a decimal number on the wire.
+    @JsonSerialize(using = PriceJsonSerializer.class)
+    private long price;
+    private String currency;
+    @JsonIgnore
+    private Long restaurantId;
+
+    @JsonCreator
+    static MenuItemResponseDto fromJson(@JsonProperty("id") Long id,
+                                        @JsonProperty("name") String name,
+                                        @JsonProperty("price") @JsonDeserialize(using = PriceJsonDeserializer.class) long price,
+                                        @JsonProperty("currency") String currency) throws InvalidFormatException {
+        return new MenuItemResponseDto(id, name, PriceJsonDeserializer.toMinorUnits(price, currency), currency, null);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.catalog.Dto;
+
+public enum MenuItemSort {
+    ID("id"),
+    PRICE_ASC("price"),
+    PRICE_DESC("-price");
+
+    private final String parameter;
+
+    MenuItemSort(String parameter) {
+        this.parameter = parameter;
+    }
+
+    public String getParameter() {
+        return parameter;
+    }
+
+    public static MenuItemSort fromParameter(String parameter) {
+        for (MenuItemSort sort : values()) {
+            if (sort.parameter.equals(parameter)) {
+                return sort;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.catalog.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class QueryStatsDto {
+    private String sql;
+    private long count;
+    private long failures;
+    private long totalMillis;
+    private long maxMillis;
+    private double meanMillis;
+}
@@ -0,0 +1,13 @@
+package com.example.catalog.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class RestaurantPage {
+    private List<RestaurantResponseDto> restaurants;
+    private Long nextCursor;
+}
@@ -0,0 +1,15 @@
+package com.example.catalog.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class RestaurantResponseDto {
+    private Long id;
+    private String name;
+    private String address;
+    private List<MenuItemResponseDto> menuItems;
+}
@@ -0,0 +1,12 @@
+package com.example.catalog.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RestaurantSummaryDto {
+    private Long id;
+    private String name;
+    private String address;
+}
@@ -0,0 +1,22 @@
+package com.example.catalog.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class RestaurantVersionDto {
+    private Long restaurantId;
+    private long version;
+    private Instant lastModified;
+
+    public String getETag() {
+        return "\"" + restaurantId + "-" + version + "\"";
+    }
+
+    public long getLastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.toEpochMilli();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.catalog.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SearchResultDto {
+    private SearchResultType type;
+    private Long restaurantId;
+    private Long menuItemId;
+    private String name;
+}
@@ -0,0 +1,6 @@
+package com.example.catalog.Dto;
+
+public enum SearchResultType {
+    RESTAURANT,
+    MENU_ITEM
+}
@@ -0,0 +1,7 @@
+package com.example.catalog.Exceptions;
+
+public class BulkImportLimitExceededException extends RuntimeException {
+    public BulkImportLimitExceededException(String message) {
+        super(message);
+    }
+}
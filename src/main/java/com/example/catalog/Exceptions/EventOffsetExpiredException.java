@@ -0,0 +1,7 @@
+package com.example.catalog.Exceptions;
+
+public class EventOffsetExpiredException extends RuntimeException {
+    public EventOffsetExpiredException(String message) {
+        super(message);
+    }
+}
@@ -1,60 +1,135 @@
 package com.example.catalog.Exceptions;
 
+import com.fasterxml.jackson.databind.JsonMappingException;
+import io.micrometer.core.instrument.Metrics;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
+    public static final String EXCEPTIONS_METRIC = "catalog.exceptions";
 
     @ExceptionHandler(RestaurantNameCannotBeNullOrEmptyException.class)
     public ResponseEntity<String> handleRestaurantNameCannotBeNullOrEmpty(RestaurantNameCannotBeNullOrEmptyException ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Bad Request: " + ex.getMessage());
+        return respond(ex, HttpStatus.BAD_REQUEST, "Bad Request: " + ex.getMessage());
     }
 
     @ExceptionHandler(RestaurantAddressCannotBeNullOrEmptyException.class)
     public ResponseEntity<String> handleRestaurantAddressCannotBeNullOrEmpty(RestaurantAddressCannotBeNullOrEmptyException ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Bad Request: " + ex.getMessage());
+        return respond(ex, HttpStatus.BAD_REQUEST, "Bad Request: " + ex.getMessage());
     }
 
     @ExceptionHandler(RestaurantAlreadyExistsException.class)
     public ResponseEntity<String> handleRestaurantAlreadyExists(RestaurantAlreadyExistsException ex) {
-        return ResponseEntity.status(HttpStatus.CONFLICT).body("Conflict: " + ex.getMessage());
+        return respond(ex, HttpStatus.CONFLICT, "Conflict: " + ex.getMessage());
     }
 
     @ExceptionHandler(MenuItemNameCannotBeNullOrEmptyException.class)
     public ResponseEntity<String> handleMenuItemNameCannotBeNullOrEmpty(MenuItemNameCannotBeNullOrEmptyException ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Bad Request: " + ex.getMessage());
+        return respond(ex, HttpStatus.BAD_REQUEST, "Bad Request: " + ex.getMessage());
     }
 
     @ExceptionHandler(PriceMustBePositiveException.class)
     public ResponseEntity<String> handlePriceMustBePositive(PriceMustBePositiveException ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Bad Request: " + ex.getMessage());
+        return respond(ex, HttpStatus.BAD_REQUEST, "Bad Request: " + ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidCurrencyException.class)
+    public ResponseEntity<String> handleInvalidCurrency(InvalidCurrencyException ex) {
+        return respond(ex, HttpStatus.BAD_REQUEST, "Bad Request: " + ex.getMessage());
     }
 
     @ExceptionHandler(RestaurantNotFoundException.class)
     public ResponseEntity<String> handleRestaurantNotFound(RestaurantNotFoundException ex) {
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Not Found: " + ex.getMessage());
+        return respond(ex, HttpStatus.NOT_FOUND, "Not Found: " + ex.getMessage());
     }
 
     @ExceptionHandler(MenuItemAlreadyExistsException.class)
     public ResponseEntity<String> handleMenuItemAlreadyExists(MenuItemAlreadyExistsException ex) {
-        return ResponseEntity.status(HttpStatus.CONFLICT).body("Conflict: " + ex.getMessage());
+        return respond(ex, HttpStatus.CONFLICT, "Conflict: " + ex.getMessage());
     }
 
     @ExceptionHandler(MenuItemNotFoundException.class)
     public ResponseEntity<String> handleMenuItemNotFound(MenuItemNotFoundException ex) {
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Not Found: " + ex.getMessage());
+        return respond(ex, HttpStatus.NOT_FOUND, "Not Found: " + ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ResponseEntity<String> handleInvalidPageRequest(InvalidPageRequestException ex) {
+        return respond(ex, HttpStatus.BAD_REQUEST, "Bad Request: " + ex.getMessage());
+    }
+
+    @ExceptionHandler(BulkImportLimitExceededException.class)
+    public ResponseEntity<String> handleBulkImportLimitExceeded(BulkImportLimitExceededException ex) {
+        return respond(ex, HttpStatus.BAD_REQUEST, "Bad Request: " + ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidBatchGetRequestException.class)
+    public ResponseEntity<String> handleInvalidBatchGetRequest(InvalidBatchGetRequestException ex) {
+        return respond(ex, HttpStatus.BAD_REQUEST, "Bad Request: " + ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidSearchQueryException.class)
+    public ResponseEntity<String> handleInvalidSearchQuery(InvalidSearchQueryException ex) {
+        return respond(ex, HttpStatus.BAD_REQUEST, "Bad Request: " + ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidEventOffsetException.class)
+    public ResponseEntity<String> handleInvalidEventOffset(InvalidEventOffsetException ex) {
+        return respond(ex, HttpStatus.BAD_REQUEST, "Bad Request: " + ex.getMessage());
+    }
+
+    @ExceptionHandler(EventOffsetExpiredException.class)
+    public ResponseEntity<String> handleEventOffsetExpired(EventOffsetExpiredException ex) {
+        return respond(ex, HttpStatus.GONE, "Gone: " + ex.getMessage());
+    }
+
+    @ExceptionHandler(SingleFlightTimeoutException.class)
+    public ResponseEntity<String> handleSingleFlightTimeout(SingleFlightTimeoutException ex) {
+        return respond(ex, HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable: " + ex.getMessage());
+    }
+
+    @ExceptionHandler(MenuWritesUnavailableException.class)
+    public ResponseEntity<String> handleMenuWritesUnavailable(MenuWritesUnavailableException ex) {
+        return respond(ex, HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable: " + ex.getMessage());
+    }
+
+    @ExceptionHandler(MenuItemJobNotFoundException.class)
+    public ResponseEntity<String> handleMenuItemJobNotFound(MenuItemJobNotFoundException ex) {
+        return respond(ex, HttpStatus.NOT_FOUND, "Not Found: " + ex.getMessage());
+    }
+
+    @ExceptionHandler(MenuWriteQueueFullException.class)
+    public ResponseEntity<String> handleMenuWriteQueueFull(MenuWriteQueueFullException ex) {
+        return respond(ex, HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests: " + ex.getMessage());
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<String> handleMessageNotReadable(HttpMessageNotReadableException ex) {
+        String message = ex.getCause() instanceof JsonMappingException mappingException
+                ? mappingException.getOriginalMessage()
+                : "Malformed request body";
+        return respond(ex, HttpStatus.BAD_REQUEST, "Bad Request: " + message);
     }
 
     @ExceptionHandler(UserNotAuthorizedException.class)
     public ResponseEntity<String> handleUserNotAuthorized(UserNotAuthorizedException ex) {
-        return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Access Denied: " + ex.getMessage());
+        return respond(ex, HttpStatus.FORBIDDEN, "Access Denied: " + ex.getMessage());
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleGeneralException(Exception e) {
-        return ResponseEntity.internalServerError().body("An error occurred: " + e.getMessage());
+        return respond(e, HttpStatus.INTERNAL_SERVER_ERROR, "An error occurred: " + e.getMessage());
+    }
+
+    // Counts go to the global registry, which Boot backs with the application's MeterRegistry.
+    private ResponseEntity<String> respond(Exception ex, HttpStatus status, String body) {
+        Metrics.counter(EXCEPTIONS_METRIC,
+                "exception", ex.getClass().getSimpleName(),
+                "status", String.valueOf(status.value())).increment();
+        return ResponseEntity.status(status).body(body);
     }
 }
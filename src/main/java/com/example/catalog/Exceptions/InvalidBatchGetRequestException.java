@@ -0,0 +1,7 @@
+package com.example.catalog.Exceptions;
+
+public class InvalidBatchGetRequestException extends RuntimeException {
+    public InvalidBatchGetRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.catalog.Exceptions;
+
+public class InvalidCurrencyException extends RuntimeException {
+    public InvalidCurrencyException(String message) {
+        super(message);
+    }
+}
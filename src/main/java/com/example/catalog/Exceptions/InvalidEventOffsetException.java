@@ -0,0 +1,7 @@
+package com.example.catalog.Exceptions;
+
+public class InvalidEventOffsetException extends RuntimeException {
+    public InvalidEventOffsetException(String message) {
+        super(message);
+    }
+}
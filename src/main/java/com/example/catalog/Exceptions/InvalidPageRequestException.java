@@ -0,0 +1,7 @@
+package com.example.catalog.Exceptions;
+
+public class InvalidPageRequestException extends RuntimeException {
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
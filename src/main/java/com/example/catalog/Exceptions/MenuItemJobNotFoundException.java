@@ -0,0 +1,7 @@
+package com.example.catalog.Exceptions;
+
+public class MenuItemJobNotFoundException extends RuntimeException {
+    public MenuItemJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.catalog.Exceptions;
+
+public class MenuWriteQueueFullException extends RuntimeException {
+    public MenuWriteQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.catalog.Exceptions;
+
+public class MenuWritesUnavailableException extends RuntimeException {
+    public MenuWritesUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.catalog.Exceptions;
+
+public class SingleFlightTimeoutException extends RuntimeException {
+    public SingleFlightTimeoutException(String message) {
+        super(message);
+    }
+}
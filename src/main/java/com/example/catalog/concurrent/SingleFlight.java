@@ -0,0 +1,92 @@
+package com.example.catalog.concurrent;
+
+import com.example.catalog.Exceptions.SingleFlightTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent loads of the same key into one. The first caller runs the loader on its own
+ * thread; callers arriving while it runs wait for its result, or its exception, instead of loading
+ * again. Waiting is bounded by the timeout, the load itself is not. Nothing is kept once the load
+ * finishes, so this complements a cache rather than replacing it.
+ */
+public class SingleFlight<K, V> {
+    public static final String LOADS_METRIC = "catalog.singleflight.loads";
+    public static final String COALESCED_METRIC = "catalog.singleflight.coalesced";
+    public static final String TIMEOUTS_METRIC = "catalog.singleflight.timeouts";
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final String name;
+    private final Duration timeout;
+    private final Counter loads;
+    private final Counter coalesced;
+    private final Counter timeouts;
+
+    public SingleFlight(String name, Duration timeout) {
+        this(name, timeout, Metrics.globalRegistry);
+    }
+
+    public SingleFlight(String name, Duration timeout, MeterRegistry registry) {
+        this.name = name;
+        this.timeout = timeout;
+        this.loads = registry.counter(LOADS_METRIC, "name", name);
+        this.coalesced = registry.counter(COALESCED_METRIC, "name", name);
+        this.timeouts = registry.counter(TIMEOUTS_METRIC, "name", name);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        loads.increment();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (Throwable e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> call) {
+        try {
+            return call.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new SingleFlightTimeoutException("Timed out after " + timeout.toMillis() + " ms waiting for the in-flight " + name + " load");
+        } catch (ExecutionException e) {
+            // Every waiter sees the loader's own exception, so callers handle it as if they had loaded.
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the in-flight " + name + " load", e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.catalog.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Uses Boot's auto-configured executors, which switch to virtual threads under the
+ * {@code virtual-threads} profile.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+}
@@ -0,0 +1,31 @@
+package com.example.catalog.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Read-through caches in front of the catalog services. Size, TTL and stats recording come from
+ * {@code spring.cache.caffeine.spec}; hit/miss/eviction counters are published under {@code cache.*}
+ * on the metrics endpoint.
+ * <p>
+ * Below them sits Hibernate's second-level cache, whose regions are configured in {@code application.conf}
+ * and reported under {@code hibernate.second.level.cache.*} and {@code hibernate.query.cache.*}.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String RESTAURANTS = "restaurants";
+    public static final String MENU_ITEMS = "menuItems";
+    public static final String MENU_ITEM = "menuItem";
+    public static final String RESTAURANT_VERSIONS = "restaurantVersions";
+
+    // Cacheable condition: a client inside its read-your-writes window reads from the primary. It is neither
+    // answered from a cache that a replica read may have filled nor fills one itself.
+    public static final String OUTSIDE_READ_YOUR_WRITES = "!T(com.example.catalog.datasource.ReadYourWrites).isActive()";
+
+    // Hibernate second-level cache regions.
+    public static final String RESTAURANT_REGION = "restaurant";
+    public static final String RESTAURANT_MENU_ITEMS_REGION = "restaurant-menu-items";
+    public static final String MENU_ITEM_REGION = "menu-item";
+    public static final String MENU_ITEM_QUERY_REGION = "menu-item-queries";
+}
@@ -0,0 +1,34 @@
+package com.example.catalog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.datasource")
+public class CatalogDataSourceProperties {
+    private List<Replica> replicas = new ArrayList<>();
+    // Replicas further behind than this are skipped until they catch up.
+    private Duration maxReplicationLag = Duration.ofSeconds(5);
+    // Must return the replica's lag in seconds as a single numeric column. A replica that has replayed all
+    // the WAL it received is current however old its last replayed transaction is (an idle primary).
+    private String lagQuery = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+    private Duration lagCheckInterval = Duration.ofSeconds(2);
+    // How long a client's reads stay on the primary after it sent a write.
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.catalog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.query-log")
+public class CatalogQueryLogProperties {
+    private boolean enabled = true;
+    // Statements at or above this latency are written to the slow query log.
+    private Duration slowThreshold = Duration.ofMillis(200);
+    // Distinct SQL strings with their own stats; the rest are folded into one overflow entry.
+    private int maxTrackedStatements = 1000;
+}
@@ -0,0 +1,33 @@
+package com.example.catalog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.security")
+public class CatalogSecurityProperties {
+    private List<UserCredentials> users = new ArrayList<>();
+    private CredentialCache credentialCache = new CredentialCache();
+
+    @Getter
+    @Setter
+    public static class UserCredentials {
+        private String username;
+        // Either a BCrypt hash or a plain password that is hashed once at startup.
+        private String password;
+        private List<String> roles = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class CredentialCache {
+        private Duration ttl = Duration.ofSeconds(60);
+        private long maximumSize = 1000;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.catalog.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.traffic")
+public class CatalogTrafficProperties {
+    // Per client IP for every request, checked before authentication; must cover the busiest legitimate
+    // address, so it is as generous as the per-principal limit.
+    private RateLimit clientIp = new RateLimit(100, 200);
+    // After authentication: per client IP for anonymous requests, per principal for authenticated ones.
+    private RateLimit anonymous = new RateLimit(20, 40);
+    private RateLimit authenticated = new RateLimit(100, 200);
+    private long maxTrackedClients = 100_000;
+    // Must exceed the time to refill a burst, or idle clients come back with a fresh one early.
+    private Duration idleClientExpiry = Duration.ofMinutes(1);
+    private LoadShedding loadShedding = new LoadShedding();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RateLimit {
+        private double permitsPerSecond;
+        private int burst;
+    }
+
+    @Getter
+    @Setter
+    public static class LoadShedding {
+        private boolean enabled = true;
+        // Start near the connection pool size; the limit then follows observed latency.
+        private int initialLimit = 40;
+        private int minLimit = 5;
+        private int maxLimit = 400;
+        // Back off once a window's average latency exceeds the baseline by this factor.
+        private double latencyTolerance = 2.0;
+        private double backoffRatio = 0.9;
+        private int windowSize = 100;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.catalog.config;
+
+import com.example.catalog.Exceptions.UserNotAuthorizedException;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+public class ConfiguredUserDetailsService implements UserDetailsService {
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}$");
+
+    private final Map<String, UserDetails> users = new HashMap<>();
+
+    public ConfiguredUserDetailsService(List<CatalogSecurityProperties.UserCredentials> credentials, PasswordEncoder passwordEncoder) {
+        for (CatalogSecurityProperties.UserCredentials credential : credentials) {
+            String password = BCRYPT_HASH.matcher(credential.getPassword()).matches()
+                    ? credential.getPassword()
+                    : passwordEncoder.encode(credential.getPassword());
+            users.put(credential.getUsername(), User.builder()
+                    .username(credential.getUsername())
+                    .password(password)
+                    .roles(credential.getRoles().toArray(String[]::new))
+                    .build());
+        }
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) {
+        UserDetails user = users.get(username);
+        if (user == null) {
+            throw new UserNotAuthorizedException("User is not authorized");
+        }
+        // Spring Security erases credentials on the returned instance, so hand out a copy.
+        return User.withUserDetails(user).build();
+    }
+}
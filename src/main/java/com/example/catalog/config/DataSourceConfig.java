@@ -0,0 +1,88 @@
+package com.example.catalog.config;
+
+import com.example.catalog.datasource.ReadYourWritesFilter;
+import com.example.catalog.datasource.ReplicaLagMonitor;
+import com.example.catalog.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Only active when at least one replica is configured; otherwise Boot's single datasource is used.
+ */
+@Configuration
+@EnableConfigurationProperties({DataSourceProperties.class, CatalogDataSourceProperties.class})
+@ConditionalOnProperty(name = "catalog.datasource.replicas[0].url")
+public class DataSourceConfig {
+
+    private final CatalogDataSourceProperties dataSourceProperties;
+
+    @Autowired
+    public DataSourceConfig(CatalogDataSourceProperties dataSourceProperties) {
+        this.dataSourceProperties = dataSourceProperties;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSources());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource, dataSourceProperties.getLagQuery(), dataSourceProperties.getMaxReplicationLag());
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(dataSourceProperties.getReadYourWritesWindow(), Clock.systemUTC()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    private Map<String, DataSource> replicaDataSources() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<CatalogDataSourceProperties.Replica> configured = dataSourceProperties.getReplicas();
+        for (int i = 0; i < configured.size(); i++) {
+            CatalogDataSourceProperties.Replica replica = configured.get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername());
+            dataSource.setPassword(replica.getPassword());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            replicas.put(dataSource.getPoolName(), dataSource);
+        }
+        return replicas;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.catalog.config;
+
+import com.example.catalog.querylog.QueryLogDataSourcePostProcessor;
+import com.example.catalog.querylog.QueryStats;
+import com.example.catalog.querylog.QueryStatsEndpoint;
+import com.example.catalog.querylog.SlowQueryListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JDBC statement instrumentation replacing spring.jpa.show-sql. Slow statements go to the
+ * {@code catalog.slow-query} logger, which logback-spring.xml routes through an async appender.
+ */
+@Configuration
+@EnableConfigurationProperties(CatalogQueryLogProperties.class)
+@ConditionalOnProperty(name = "catalog.query-log.enabled", matchIfMissing = true)
+public class QueryLogConfig {
+    private static final Logger slowQueryLog = LoggerFactory.getLogger("catalog.slow-query");
+
+    // Static so the post processor is registered without instantiating this configuration early.
+    @Bean
+    public static QueryLogDataSourcePostProcessor queryLogDataSourcePostProcessor(ObjectProvider<SlowQueryListener> slowQueryListener) {
+        return new QueryLogDataSourcePostProcessor(slowQueryListener);
+    }
+
+    @Bean
+    public QueryStats queryStats(CatalogQueryLogProperties properties) {
+        return new QueryStats(properties.getMaxTrackedStatements());
+    }
+
+    @Bean
+    public SlowQueryListener slowQueryListener(CatalogQueryLogProperties properties, QueryStats queryStats) {
+        return new SlowQueryListener(properties.getSlowThreshold().toMillis(), queryStats, slowQueryLog::warn);
+    }
+
+    @Bean
+    public QueryStatsEndpoint queryStatsEndpoint(QueryStats queryStats) {
+        return new QueryStatsEndpoint(queryStats);
+    }
+}
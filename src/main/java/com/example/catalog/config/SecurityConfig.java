@@ -1,29 +1,43 @@
 package com.example.catalog.config;
 
-import com.example.catalog.Exceptions.UserNotAuthorizedException;
+import com.example.catalog.traffic.AdaptiveConcurrencyLimiter;
+import com.example.catalog.traffic.ClientIpRateLimitFilter;
+import com.example.catalog.traffic.LoadSheddingFilter;
+import com.example.catalog.traffic.RateLimitFilter;
+import com.example.catalog.traffic.TokenBucketRateLimiter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties({CatalogSecurityProperties.class, CatalogTrafficProperties.class})
 public class SecurityConfig {
 
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
+    private final CatalogSecurityProperties securityProperties;
+    private final CatalogTrafficProperties trafficProperties;
 
     @Autowired
-    public SecurityConfig(CustomAuthenticationEntryPoint customAuthenticationEntryPoint) {
+    public SecurityConfig(CustomAuthenticationEntryPoint customAuthenticationEntryPoint, CatalogSecurityProperties securityProperties,
+                          CatalogTrafficProperties trafficProperties) {
         this.customAuthenticationEntryPoint = customAuthenticationEntryPoint;
+        this.securityProperties = securityProperties;
+        this.trafficProperties = trafficProperties;
     }
 
     @Bean
@@ -36,34 +50,63 @@ public class SecurityConfig {
                                         "/catalog/restaurants",
                                         "/catalog/restaurants/{restaurantId}",
                                         "/catalog/restaurants/{restaurantId}/menuItems",
-                                        "/catalog/restaurants/{restaurantId}/menuItems/{menuItemId}"
+                                        "/catalog/restaurants/{restaurantId}/menuItems/{menuItemId}",
+                                        "/catalog/search",
+                                        "/catalog/reactive/restaurants/**"
                                 ).permitAll()
+                                .requestMatchers(HttpMethod.POST, "/catalog/menuItems:batchGet").permitAll()
                                 .requestMatchers(
                                         HttpMethod.POST,
                                         "/catalog/restaurants",
-                                        "/catalog/restaurants/{restaurantId}/menuItems"
+                                        "/catalog/restaurants/{restaurantId}/menuItems",
+                                        "/catalog/restaurants/{restaurantId}/menuItems:bulk"
                                 ).hasRole("ADMIN")
                                 .anyRequest()
                                 .authenticated()
                 )
                 .httpBasic(Customizer.withDefaults())
                 .csrf(AbstractHttpConfigurer::disable)
-                .exceptionHandling(exceptionHandler -> exceptionHandler.authenticationEntryPoint(customAuthenticationEntryPoint));
+                .exceptionHandling(exceptionHandler -> exceptionHandler.authenticationEntryPoint(customAuthenticationEntryPoint))
+                // Per IP before authentication, so bad credentials are limited before their BCrypt check;
+                // per principal only once authentication has succeeded.
+                .addFilterBefore(new ClientIpRateLimitFilter(tokenBucket(trafficProperties.getClientIp())), BasicAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter(), BasicAuthenticationFilter.class);
+        if (trafficProperties.getLoadShedding().isEnabled()) {
+            // After authorization, so requests that are turned away anyway never take a slot.
+            http.addFilterAfter(loadSheddingFilter(), AuthorizationFilter.class);
+        }
         return http.build();
     }
 
+    // Not beans: a Filter bean would also be registered with the servlet container and run twice.
+    private RateLimitFilter rateLimitFilter() {
+        return new RateLimitFilter(tokenBucket(trafficProperties.getAnonymous()), tokenBucket(trafficProperties.getAuthenticated()));
+    }
+
+    private TokenBucketRateLimiter tokenBucket(CatalogTrafficProperties.RateLimit rateLimit) {
+        return new TokenBucketRateLimiter(rateLimit.getPermitsPerSecond(), rateLimit.getBurst(),
+                trafficProperties.getMaxTrackedClients(), trafficProperties.getIdleClientExpiry(), System::nanoTime);
+    }
+
+    private LoadSheddingFilter loadSheddingFilter() {
+        CatalogTrafficProperties.LoadShedding loadShedding = trafficProperties.getLoadShedding();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(loadShedding.getInitialLimit(), loadShedding.getMinLimit(),
+                loadShedding.getMaxLimit(), loadShedding.getLatencyTolerance(), loadShedding.getBackoffRatio(), loadShedding.getWindowSize());
+        return new LoadSheddingFilter(limiter, System::nanoTime);
+    }
+
     @Bean
     public UserDetailsService userDetailsService() {
-        return username -> {
-            if (!"admin".equals(username)) {
-                throw new UserNotAuthorizedException("User is not authorized");
-            }
-            return User.builder()
-                    .username("admin")
-                    .password(passwordEncoder().encode("password"))
-                    .roles("ADMIN")
-                    .build();
-        };
+        return new ConfiguredUserDetailsService(securityProperties.getUsers(), passwordEncoder());
+    }
+
+    @Bean
+    public AuthenticationProvider authenticationProvider() {
+        DaoAuthenticationProvider daoAuthenticationProvider = new DaoAuthenticationProvider();
+        daoAuthenticationProvider.setUserDetailsService(userDetailsService());
+        daoAuthenticationProvider.setPasswordEncoder(passwordEncoder());
+        CatalogSecurityProperties.CredentialCache credentialCache = securityProperties.getCredentialCache();
+        return new CachingAuthenticationProvider(daoAuthenticationProvider, credentialCache.getTtl(), credentialCache.getMaximumSize());
     }
 
     @Bean
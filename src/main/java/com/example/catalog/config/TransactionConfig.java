@@ -0,0 +1,23 @@
+package com.example.catalog.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * R2DBC registers its own ReactiveTransactionManager, which makes Boot's JPA transaction manager back
+ * off and leaves plain @Transactional ambiguous. Declaring the JPA manager as primary keeps the servlet
+ * services on JPA; the reactive read path does not use declarative transactions.
+ */
+@Configuration
+public class TransactionConfig {
+
+    @Bean
+    @Primary
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+}
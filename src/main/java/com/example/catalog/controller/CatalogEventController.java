@@ -0,0 +1,35 @@
+package com.example.catalog.controller;
+
+import com.example.catalog.Exceptions.InvalidEventOffsetException;
+import com.example.catalog.outbox.OutboxEventStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/catalog/events")
+public class CatalogEventController {
+    private final OutboxEventStream outboxEventStream;
+
+    @Autowired
+    public CatalogEventController(OutboxEventStream outboxEventStream) {
+        this.outboxEventStream = outboxEventStream;
+    }
+
+    // Resumes after the offset in Last-Event-ID (sent automatically by EventSource on reconnect) or ?from=;
+    // without either, starts at the oldest retained event. An expired offset is answered with 410 Gone.
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestParam(required = false) Long from) {
+        Long afterOffset = lastEventId != null ? lastEventId : from;
+        if (afterOffset == null) {
+            return outboxEventStream.subscribe(OutboxEventStream.FROM_OLDEST);
+        }
+        if (afterOffset < 0) {
+            throw new InvalidEventOffsetException("Event offset cannot be negative");
+        }
+        return outboxEventStream.subscribe(afterOffset);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.catalog.controller;
+
+import com.example.catalog.Dto.MenuBatchResultDto;
+import com.example.catalog.service.MenuItemService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+public class MenuItemBatchController {
+    private final MenuItemService menuItemService;
+
+    @Autowired
+    public MenuItemBatchController(MenuItemService menuItemService) {
+        this.menuItemService = menuItemService;
+    }
+
+    // A read, but POST so a feed's worth of IDs does not have to fit in a URL.
+    @PostMapping("/catalog/menuItems:batchGet")
+    public ResponseEntity<Map<Long, MenuBatchResultDto>> batchGetMenuItems(@RequestBody List<Long> restaurantIds) {
+        return ResponseEntity.ok(menuItemService.getMenuItemsForRestaurants(restaurantIds));
+    }
+}
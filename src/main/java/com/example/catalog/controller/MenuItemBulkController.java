@@ -0,0 +1,32 @@
+package com.example.catalog.controller;
+
+import com.example.catalog.Dto.BulkMenuItemImportResponse;
+import com.example.catalog.Dto.MenuItemDto;
+import com.example.catalog.service.MenuItemService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+public class MenuItemBulkController {
+    private final MenuItemService menuItemService;
+
+    @Autowired
+    public MenuItemBulkController(MenuItemService menuItemService) {
+        this.menuItemService = menuItemService;
+    }
+
+    @PostMapping("/catalog/restaurants/{restaurantId}/menuItems:bulk")
+    public ResponseEntity<BulkMenuItemImportResponse> addMenuItems(
+            @PathVariable Long restaurantId,
+            @RequestParam(defaultValue = "false") boolean atomic,
+            @RequestBody List<MenuItemDto> menuItemDtos) {
+
+        BulkMenuItemImportResponse response = menuItemService.addMenuItems(restaurantId, menuItemDtos, atomic);
+        HttpStatus status = response.isRejected() ? HttpStatus.UNPROCESSABLE_ENTITY : HttpStatus.OK;
+        return ResponseEntity.status(status).body(response);
+    }
+}
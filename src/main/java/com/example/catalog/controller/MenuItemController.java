@@ -1,43 +1,126 @@
 package com.example.catalog.controller;
 
 import com.example.catalog.Dto.MenuItemDto;
+import com.example.catalog.Dto.MenuItemJobDto;
+import com.example.catalog.Dto.MenuItemPage;
+import com.example.catalog.Dto.MenuItemResponseDto;
+import com.example.catalog.Dto.RestaurantVersionDto;
 import com.example.catalog.model.MenuItem;
+import com.example.catalog.pipeline.MenuWritePipeline;
+import com.example.catalog.pricing.PriceFormat;
 import com.example.catalog.service.MenuItemService;
+import com.example.catalog.snapshot.MenuSnapshot;
+import com.example.catalog.snapshot.MenuSnapshotService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.net.URI;
 
 @RestController
 @RequestMapping("/catalog/restaurants/{restaurantId}/menuItems")
 public class MenuItemController {
     private final MenuItemService menuItemService;
+    private final MenuSnapshotService menuSnapshotService;
+    private final MenuWritePipeline menuWritePipeline;
 
     @Autowired
-    public MenuItemController(MenuItemService menuItemService) {
+    public MenuItemController(MenuItemService menuItemService, MenuSnapshotService menuSnapshotService,
+                              MenuWritePipeline menuWritePipeline) {
         this.menuItemService = menuItemService;
+        this.menuSnapshotService = menuSnapshotService;
+        this.menuWritePipeline = menuWritePipeline;
     }
 
     @PostMapping
-    public ResponseEntity<String> addMenuItem(
+    public ResponseEntity<?> addMenuItem(
             @PathVariable Long restaurantId,
+            @RequestParam(defaultValue = "false") boolean async,
             @RequestBody MenuItemDto menuItemDto) {
 
-        menuItemService.addMenuItem(restaurantId, menuItemDto.getName(), menuItemDto.getPrice());
-        String successMessage = "Menu item added successfully: " + menuItemDto.getName() + " with price: " + menuItemDto.getPrice();
+        if (async) {
+            MenuItemJobDto job = menuWritePipeline.submit(restaurantId, menuItemDto);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/catalog/menuItemJobs/" + job.getJobId()))
+                    .body(job);
+        }
+        menuItemService.addMenuItem(restaurantId, menuItemDto.getName(), menuItemDto.getPrice(), menuItemDto.getCurrency());
+        String successMessage = "Menu item added successfully: " + menuItemDto.getName() + " with price: " + PriceFormat.toString(menuItemDto.getPrice(),
+                PriceFormat.fractionDigits(menuItemDto.getCurrency() == null ? MenuItem.DEFAULT_CURRENCY : menuItemDto.getCurrency()));
         return ResponseEntity.ok(successMessage);
     }
 
     @GetMapping
-    public ResponseEntity<List<MenuItem>> getAllMenuItems(@PathVariable Long restaurantId) {
-        List<MenuItem> menuItems = menuItemService.getAllMenuItems(restaurantId);
-        return ResponseEntity.ok(menuItems);
+    public ResponseEntity<?> getMenuItems(
+            @PathVariable Long restaurantId,
+            @RequestParam(required = false) String minPrice,
+            @RequestParam(required = false) String maxPrice,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        if (minPrice == null && maxPrice == null && sort == null && limit == null && cursor == null) {
+            return getAllMenuItems(restaurantId, acceptEncoding, webRequest);
+        }
+        MenuItemPage page = menuItemService.getMenuItemsPage(restaurantId, minPrice, maxPrice, sort, limit, cursor);
+        return ResponseEntity.ok(page);
+    }
+
+    // The whole menu is served from a precomputed snapshot; only filtered views go to the database.
+    private ResponseEntity<byte[]> getAllMenuItems(Long restaurantId, String acceptEncoding, WebRequest webRequest) {
+        // The version comes from a cache, so an unchanged menu is answered without touching the menu table.
+        RestaurantVersionDto version = menuItemService.getMenuVersion(restaurantId);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String eTag = gzip ? gzipETag(version.getETag()) : version.getETag();
+        if (webRequest.checkNotModified(eTag, version.getLastModifiedMillis())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+        }
+
+        MenuSnapshot snapshot = menuSnapshotService.getSnapshot(restaurantId, version);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(eTag)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (version.getLastModified() != null) {
+            response.lastModified(version.getLastModified());
+        }
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.getGzip());
+        }
+        return response.body(snapshot.getJson());
     }
 
     @GetMapping("/{menuItemId}")
-    public ResponseEntity<MenuItem> getMenuItemById(@PathVariable Long restaurantId, @PathVariable Long menuItemId) {
-        MenuItem menuItem = menuItemService.getMenuItemById(menuItemId, restaurantId);
+    public ResponseEntity<MenuItemResponseDto> getMenuItemById(@PathVariable Long restaurantId, @PathVariable Long menuItemId) {
+        MenuItemResponseDto menuItem = menuItemService.getMenuItemById(menuItemId, restaurantId);
         return ResponseEntity.ok(menuItem);
     }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            boolean accepted = parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return accepted;
+            }
+            if (parts[0].trim().equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    // Each encoding is its own representation and needs its own strong validator.
+    private static String gzipETag(String eTag) {
+        return eTag.substring(0, eTag.length() - 1) + "-gzip\"";
+    }
 }
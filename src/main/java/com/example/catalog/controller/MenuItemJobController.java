@@ -0,0 +1,24 @@
+package com.example.catalog.controller;
+
+import com.example.catalog.Dto.MenuItemJobDto;
+import com.example.catalog.pipeline.MenuWritePipeline;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class MenuItemJobController {
+    private final MenuWritePipeline menuWritePipeline;
+
+    @Autowired
+    public MenuItemJobController(MenuWritePipeline menuWritePipeline) {
+        this.menuWritePipeline = menuWritePipeline;
+    }
+
+    @GetMapping("/catalog/menuItemJobs/{jobId}")
+    public ResponseEntity<MenuItemJobDto> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(menuWritePipeline.getJob(jobId));
+    }
+}
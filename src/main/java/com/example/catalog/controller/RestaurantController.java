@@ -1,22 +1,36 @@
 package com.example.catalog.controller;
 
 import com.example.catalog.Dto.RestaurantDto;
-import com.example.catalog.model.Restaurant;
+import com.example.catalog.Dto.RestaurantPage;
+import com.example.catalog.Dto.RestaurantResponseDto;
+import com.example.catalog.Dto.RestaurantVersionDto;
 import com.example.catalog.service.RestaurantService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
 @RequestMapping("/catalog/restaurants")
 public class RestaurantController {
     private final RestaurantService restaurantService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public RestaurantController(RestaurantService restaurantService) {
+    public RestaurantController(RestaurantService restaurantService, ObjectMapper objectMapper) {
         this.restaurantService = restaurantService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -26,15 +40,58 @@ public class RestaurantController {
         return ResponseEntity.ok(successMessage);
     }
 
+    // Kept as a plain list for existing clients; a truncated list links to the next keyset page.
     @GetMapping
-    public ResponseEntity<List<Restaurant>> getAllRestaurants() {
-        List<Restaurant> restaurants = restaurantService.getAllRestaurants();
-        return ResponseEntity.ok(restaurants);
+    public ResponseEntity<List<RestaurantResponseDto>> getAllRestaurants() {
+        RestaurantPage page = restaurantService.getAllRestaurants();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", page.getNextCursor())
+                    .replaceQueryParam("limit", restaurantService.getMaxPageSize())
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(page.getRestaurants());
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<RestaurantPage> getRestaurantsPage(
+            @RequestParam(required = false) Long after,
+            @RequestParam int limit) {
+        RestaurantPage page = restaurantService.getRestaurantsPage(after, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamRestaurants() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                restaurantService.streamRestaurants(restaurant -> {
+                    try {
+                        generator.writeObject(restaurant);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @GetMapping("/{restaurantId}")
-    public ResponseEntity<Restaurant> getRestaurantById(@PathVariable Long restaurantId) {
-        Restaurant restaurant = restaurantService.getRestaurantById(restaurantId);
-        return ResponseEntity.ok(restaurant);
+    public ResponseEntity<RestaurantResponseDto> getRestaurantById(@PathVariable Long restaurantId, WebRequest webRequest) {
+        RestaurantVersionDto version = restaurantService.getRestaurantVersion(restaurantId);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModifiedMillis())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(version.getETag()).build();
+        }
+
+        RestaurantResponseDto restaurant = restaurantService.getRestaurantById(restaurantId);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(version.getETag());
+        if (version.getLastModified() != null) {
+            response.lastModified(version.getLastModified());
+        }
+        return response.body(restaurant);
     }
 }
@@ -0,0 +1,36 @@
+package com.example.catalog.controller;
+
+import com.example.catalog.Dto.SearchResultDto;
+import com.example.catalog.Exceptions.InvalidSearchQueryException;
+import com.example.catalog.search.CatalogSearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/catalog/search")
+public class SearchController {
+    public static final int MAX_LIMIT = 100;
+
+    private final CatalogSearchIndex searchIndex;
+
+    @Autowired
+    public SearchController(CatalogSearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<SearchResultDto>> search(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (query.isBlank()) {
+            throw new InvalidSearchQueryException("Search query cannot be empty");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidSearchQueryException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return ResponseEntity.ok(searchIndex.search(query, limit));
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.catalog.datasource;
+
+/**
+ * Marks the current thread as having to read from the primary, e.g. because the client just wrote.
+ */
+public final class ReadYourWrites {
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private ReadYourWrites() {}
+
+    public static void begin() {
+        PRIMARY_ONLY.set(Boolean.TRUE);
+    }
+
+    public static void end() {
+        PRIMARY_ONLY.remove();
+    }
+
+    public static boolean isActive() {
+        return PRIMARY_ONLY.get() != null;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.catalog.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Keeps a client's reads on the primary for a short window after it sends a write, so it sees its own
+ * changes even if the replicas have not caught up yet. The window travels with the client in a cookie.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    public static final String COOKIE_NAME = "catalog-primary-until";
+
+    private final Duration window;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = clock.millis();
+        if (!isSafe(request.getMethod())) {
+            // Set before the chain runs; the response may already be committed afterwards.
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(now + window.toMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) window.toSeconds());
+            response.addCookie(cookie);
+        } else if (!isWithinWindow(primaryUntil(request), now)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ReadYourWrites.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.end();
+        }
+    }
+
+    // Values further out than one window were not issued by us and are ignored.
+    private boolean isWithinWindow(long primaryUntil, long now) {
+        return primaryUntil > now && primaryUntil <= now + window.toMillis();
+    }
+
+    private long primaryUntil(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return 0;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static boolean isSafe(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+}
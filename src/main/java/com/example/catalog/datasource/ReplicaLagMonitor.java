@@ -0,0 +1,56 @@
+package com.example.catalog.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Periodically measures each replica's lag and takes replicas out of rotation while they exceed the
+ * tolerance or cannot be reached.
+ */
+public class ReplicaLagMonitor {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, String lagQuery, Duration maxLag) {
+        this.routingDataSource = routingDataSource;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.datasource.lag-check-interval:2s}")
+    public void checkLag() {
+        routingDataSource.getReplicas().forEach((replicaName, dataSource) -> {
+            boolean lagging;
+            try {
+                double lagSeconds = measureLagSeconds(dataSource);
+                lagging = lagSeconds > maxLagSeconds;
+                if (lagging) {
+                    log.warn("Replica {} is {}s behind, routing its reads to the primary", replicaName, lagSeconds);
+                }
+            } catch (SQLException e) {
+                lagging = true;
+                log.warn("Replica {} lag check failed, routing its reads to the primary", replicaName, e);
+            }
+            routingDataSource.setLagging(replicaName, lagging);
+        });
+    }
+
+    private double measureLagSeconds(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            return resultSet.next() ? resultSet.getDouble(1) : 0;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.catalog.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to the replicas in round-robin order and everything else to the primary.
+ * Lagging replicas are skipped, and reads fall back to the primary when no replica is usable or
+ * {@link ReadYourWrites} is active. Must sit behind a {@code LazyConnectionDataSourceProxy} so the
+ * connection is fetched after the transaction's read-only flag is set.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    public static final String PRIMARY = "primary";
+
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaNames;
+    private final Set<String> laggingReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        this.replicas = replicas;
+        this.replicaNames = List.copyOf(replicas.keySet());
+        afterPropertiesSet();
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    public void setLagging(String replicaName, boolean lagging) {
+        if (lagging) {
+            laggingReplicas.add(replicaName);
+        } else {
+            laggingReplicas.remove(replicaName);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReadYourWrites.isActive()) {
+            return PRIMARY;
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(replicaNames.size(), 1));
+        for (int i = 0; i < replicaNames.size(); i++) {
+            String replicaName = replicaNames.get((start + i) % replicaNames.size());
+            if (!laggingReplicas.contains(replicaName)) {
+                return replicaName;
+            }
+        }
+        return PRIMARY;
+    }
+
+    // The primary is managed by the application context; the replica pools are owned here.
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
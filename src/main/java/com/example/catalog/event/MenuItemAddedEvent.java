@@ -0,0 +1,18 @@
+package com.example.catalog.event;
+
+import com.example.catalog.pricing.PriceJsonSerializer;
+import com.example.catalog.pricing.Priced;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MenuItemAddedEvent implements Priced {
+    private Long restaurantId;
+    private Long menuItemId;
+    private String name;
+    @JsonSerialize(using = PriceJsonSerializer.class)
+    private long price;
+    private String currency;
+}
@@ -0,0 +1,12 @@
+package com.example.catalog.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RestaurantAddedEvent {
+    private Long restaurantId;
+    private String name;
+    private String address;
+}
@@ -1,38 +1,81 @@
 package com.example.catalog.model;
 
+import com.example.catalog.Exceptions.InvalidCurrencyException;
 import com.example.catalog.Exceptions.MenuItemNameCannotBeNullOrEmptyException;
 import com.example.catalog.Exceptions.PriceMustBePositiveException;
+import com.example.catalog.config.CacheConfig;
+import com.example.catalog.pricing.PriceFormat;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.PartitionKey;
 
 @Setter
 @Entity
-@Table(name = "menuItems")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.MENU_ITEM_REGION)
+@Table(name = "menuItems",
+        uniqueConstraints = @UniqueConstraint(name = MenuItem.UNIQUE_RESTAURANT_NAME, columnNames = {"restaurant_id", "name"}),
+        indexes = @Index(name = "idx_menu_items_restaurant_id_price_minor", columnList = "restaurant_id, price_minor, id"))
 public class MenuItem {
+    public static final String UNIQUE_RESTAURANT_NAME = "uk_menu_items_restaurant_id_name";
+    public static final String DEFAULT_CURRENCY = "INR";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "menu_items_seq")
+    @SequenceGenerator(name = "menu_items_seq", sequenceName = "menu_items_seq", allocationSize = 50)
     @Getter
     private Long id;
     @Getter
     private String name;
+    // Minor units of the currency, i.e. scaled by its ISO 4217 exponent.
+    @Getter
+    private long priceMinor;
     @Getter
-    private double price;
+    @Column(length = 3, nullable = false)
+    private String currency;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "restaurant_id", nullable = false)
     private Restaurant restaurant;
 
+    // menu_items is hash-partitioned on restaurant_id; adding it to Hibernate's updates and deletes by id
+    // lets Postgres prune them to one partition.
+    @PartitionKey
+    @Setter(AccessLevel.NONE)
+    @Column(name = "restaurant_id", insertable = false, updatable = false)
+    private Long restaurantId;
+
     public MenuItem() {}
 
-    public MenuItem(String name, double price) {
-        if (name == null || name.trim().isEmpty()) {
+    public MenuItem(String name, long priceMinor) {
+        this(name, priceMinor, DEFAULT_CURRENCY);
+    }
+
+    // Checks only read their arguments, so an accepted item allocates nothing beyond itself.
+    public MenuItem(String name, long priceMinor, String currency) {
+        if (name == null || name.isBlank()) {
             throw new MenuItemNameCannotBeNullOrEmptyException("Menu item name cannot be null or empty");
         }
-        if (price <= 0) {
+        if (priceMinor <= 0) {
             throw new PriceMustBePositiveException("Price must be positive");
         }
+        if (currency == null) {
+            currency = DEFAULT_CURRENCY;
+        } else if (PriceFormat.fractionDigits(currency) < 0) {
+            throw new InvalidCurrencyException("Currency must be a three-letter ISO 4217 code");
+        }
         this.name = name;
-        this.price = price;
+        this.priceMinor = priceMinor;
+        this.currency = currency;
+    }
+
+    // Restaurant ids are identity-generated, so the restaurant is always inserted first.
+    @PrePersist
+    void copyRestaurantId() {
+        restaurantId = restaurant.getId();
     }
 }
@@ -0,0 +1,19 @@
+package com.example.catalog.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Entity
+@Table(name = "catalog_outbox_cursor")
+public class OutboxCursor {
+    public static final int ID = 1;
+
+    @Id
+    private Integer id = ID;
+    @Setter
+    private long lastOffset;
+}
@@ -0,0 +1,36 @@
+package com.example.catalog.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@Entity
+@Table(name = "catalog_outbox")
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "catalog_outbox_seq")
+    @SequenceGenerator(name = "catalog_outbox_seq", sequenceName = "catalog_outbox_seq", allocationSize = 50)
+    private Long id;
+    private String eventType;
+    private Long restaurantId;
+    @Column(length = 4000)
+    private String payload;
+    private Instant createdAt;
+    // Assigned by the publisher; null until then.
+    private Long eventOffset;
+
+    public OutboxEvent() {}
+
+    public OutboxEvent(String eventType, Long restaurantId, String payload) {
+        this.eventType = eventType;
+        this.restaurantId = restaurantId;
+        this.payload = payload;
+        this.createdAt = Instant.now();
+    }
+
+    public void publish(long eventOffset) {
+        this.eventOffset = eventOffset;
+    }
+}
@@ -2,16 +2,23 @@ package com.example.catalog.model;
 
 import com.example.catalog.Exceptions.RestaurantAddressCannotBeNullOrEmptyException;
 import com.example.catalog.Exceptions.RestaurantNameCannotBeNullOrEmptyException;
+import com.example.catalog.config.CacheConfig;
 import jakarta.persistence.*;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @Entity
-@Table(name = "restaurants")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.RESTAURANT_REGION)
+@Table(name = "restaurants", uniqueConstraints = @UniqueConstraint(name = Restaurant.UNIQUE_NAME_ADDRESS, columnNames = {"name", "address"}))
 public class Restaurant {
+    public static final String UNIQUE_NAME_ADDRESS = "uk_restaurants_name_address";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -19,6 +26,7 @@ public class Restaurant {
     private String address;
 
     @OneToMany(mappedBy = "restaurant", cascade = CascadeType.ALL)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.RESTAURANT_MENU_ITEMS_REGION)
     private final List<MenuItem> menuItems = new ArrayList<>();
 
     public Restaurant() {}
@@ -34,8 +42,8 @@ public class Restaurant {
         this.address = address;
     }
 
-    public MenuItem addMenuItem(String name, double price) {
-        MenuItem menuItem = new MenuItem(name, price);
+    public MenuItem addMenuItem(String name, long priceMinor, String currency) {
+        MenuItem menuItem = new MenuItem(name, priceMinor, currency);
         menuItem.setRestaurant(this);
         menuItems.add(menuItem);
         return menuItem;
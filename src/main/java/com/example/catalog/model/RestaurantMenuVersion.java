@@ -0,0 +1,25 @@
+package com.example.catalog.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Drives the ETag/Last-Modified of a restaurant's read endpoints. Kept apart from {@link Restaurant} and
+ * out of the second-level cache: bumping it is a bulk update, and a bulk update on a cached entity clears
+ * that entity's whole region. Only {@code RestaurantRepository} writes it.
+ */
+@Getter
+@Entity
+@Table(name = "restaurant_menu_versions")
+public class RestaurantMenuVersion {
+    @Id
+    private Long restaurantId;
+    private long version;
+    private Instant lastModified;
+
+    public RestaurantMenuVersion() {}
+}
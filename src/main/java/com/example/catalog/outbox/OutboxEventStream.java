@@ -0,0 +1,190 @@
+package com.example.catalog.outbox;
+
+import com.example.catalog.Exceptions.EventOffsetExpiredException;
+import com.example.catalog.model.OutboxEvent;
+import com.example.catalog.repository.OutboxEventRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tails published outbox events for Server-Sent Events subscribers. Each subscriber keeps its own cursor;
+ * every tick runs one query per distinct cursor, so live subscribers share a query at the head of the log
+ * and a consumer resuming from an old offset catches up a batch at a time without holding the others back.
+ * Writes to the clients run on a dedicated executor with at most one send in flight per subscriber: a
+ * stalled client only misses ticks until its write times out, and never blocks the shared scheduler.
+ * Reading from the table rather than from the local publisher means any instance can serve any subscriber.
+ * Offsets are gap-free, so a resume point older than the retained events is refused, and a subscriber whose
+ * next events were deleted while it lagged gets a reset event and is closed; either way it must resync.
+ */
+@Component
+public class OutboxEventStream {
+    // Starts at the oldest retained event, for consumers that have no offset to resume from.
+    public static final long FROM_OLDEST = -1;
+    public static final String RESET_EVENT = "reset";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final int batchSize;
+    private final Duration heartbeatInterval;
+    private final Clock clock;
+    private final ExecutorService sendExecutor;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    public OutboxEventStream(OutboxEventRepository outboxEventRepository,
+                             @Value("${catalog.outbox.batch-size:500}") int batchSize,
+                             @Value("${catalog.outbox.heartbeat-interval:15s}") Duration heartbeatInterval) {
+        // Sends block on client sockets, so each gets a cheap virtual thread.
+        this(outboxEventRepository, batchSize, heartbeatInterval, Clock.systemUTC(),
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("outbox-stream-", 0).factory()));
+    }
+
+    OutboxEventStream(OutboxEventRepository outboxEventRepository, int batchSize, Duration heartbeatInterval, Clock clock,
+                      ExecutorService sendExecutor) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.batchSize = batchSize;
+        this.heartbeatInterval = heartbeatInterval;
+        this.clock = clock;
+        this.sendExecutor = sendExecutor;
+    }
+
+    /**
+     * @param afterOffset the last offset the consumer has processed, or {@link #FROM_OLDEST}; delivery starts after it
+     * @throws EventOffsetExpiredException when events after the offset have already been deleted
+     */
+    public SseEmitter subscribe(long afterOffset) {
+        return subscribe(new SseEmitter(0L), afterOffset);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, long afterOffset) {
+        if (afterOffset != FROM_OLDEST) {
+            Long oldest = outboxEventRepository.findOldestPublishedOffset();
+            if (oldest != null && afterOffset + 1 < oldest) {
+                throw new EventOffsetExpiredException("Events after offset " + afterOffset
+                        + " have expired; the oldest retained offset is " + oldest);
+            }
+        }
+        Subscriber subscriber = new Subscriber(emitter, afterOffset, clock.millis());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.outbox.stream-interval:500ms}")
+    public void dispatch() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Map<Long, List<Subscriber>> byOffset = new HashMap<>();
+        Set<Subscriber> pending = new HashSet<>();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.sending.compareAndSet(false, true)) {
+                byOffset.computeIfAbsent(subscriber.lastOffset, offset -> new ArrayList<>()).add(subscriber);
+                pending.add(subscriber);
+            }
+        }
+
+        long now = clock.millis();
+        try {
+            for (Map.Entry<Long, List<Subscriber>> group : byOffset.entrySet()) {
+                List<OutboxEvent> events = outboxEventRepository.findPublishedAfter(group.getKey(), PageRequest.of(0, batchSize));
+                for (Subscriber subscriber : group.getValue()) {
+                    sendExecutor.execute(() -> deliver(subscriber, events, now));
+                    pending.remove(subscriber);
+                }
+            }
+        } catch (RejectedExecutionException e) {
+            // Shutting down.
+        } finally {
+            // Subscribers not handed to the executor, e.g. after a failed query, are picked up next tick.
+            pending.forEach(subscriber -> subscriber.sending.set(false));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
+    }
+
+    private void deliver(Subscriber subscriber, List<OutboxEvent> events, long now) {
+        try {
+            if (!subscriber.send(events, now, heartbeatInterval.toMillis())) {
+                subscribers.remove(subscriber);
+                subscriber.emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        } finally {
+            subscriber.sending.set(false);
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        // Set while a send is queued or running; the next one is handed off only after it is cleared.
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile long lastOffset;
+        private long lastSentAt;
+
+        private Subscriber(SseEmitter emitter, long lastOffset, long now) {
+            this.emitter = emitter;
+            this.lastOffset = lastOffset;
+            this.lastSentAt = now;
+        }
+
+        /**
+         * @return false after sending a reset event, when the next events were deleted before they were sent
+         */
+        private boolean send(List<OutboxEvent> events, long now, long heartbeatMillis) throws IOException {
+            for (OutboxEvent event : events) {
+                if (event.getEventOffset() > lastOffset) {
+                    if (lastOffset != FROM_OLDEST && event.getEventOffset() > lastOffset + 1) {
+                        emitter.send(SseEmitter.event()
+                                .name(RESET_EVENT)
+                                .data("Events after offset " + lastOffset + " have expired"));
+                        return false;
+                    }
+                    emitter.send(SseEmitter.event()
+                            .id(Long.toString(event.getEventOffset()))
+                            .name(event.getEventType())
+                            .data(event.getPayload(), MediaType.APPLICATION_JSON));
+                    lastOffset = event.getEventOffset();
+                    lastSentAt = now;
+                }
+            }
+            // Comments keep proxies from closing an idle stream and reveal disconnected clients.
+            if (now - lastSentAt >= heartbeatMillis) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                lastSentAt = now;
+            }
+            return true;
+        }
+    }
+}
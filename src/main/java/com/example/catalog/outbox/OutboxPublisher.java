@@ -0,0 +1,61 @@
+package com.example.catalog.outbox;
+
+import com.example.catalog.model.OutboxCursor;
+import com.example.catalog.model.OutboxEvent;
+import com.example.catalog.repository.OutboxCursorRepository;
+import com.example.catalog.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Drains the outbox in batches and assigns each event its stream offset. Offsets are handed out under a
+ * row lock on the cursor, so they are gap-free and increase in publication order even with several
+ * instances running; identity or sequence ids alone would not be, because transactions commit out of
+ * order.
+ */
+@Component
+public class OutboxPublisher {
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxCursorRepository outboxCursorRepository;
+    private final int batchSize;
+    private final Duration retention;
+
+    @Autowired
+    public OutboxPublisher(OutboxEventRepository outboxEventRepository,
+                           OutboxCursorRepository outboxCursorRepository,
+                           @Value("${catalog.outbox.batch-size:500}") int batchSize,
+                           @Value("${catalog.outbox.retention:7d}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxCursorRepository = outboxCursorRepository;
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${catalog.outbox.publish-interval:500ms}")
+    public int publishPending() {
+        OutboxCursor cursor = outboxCursorRepository.lockCursor()
+                .orElseGet(() -> outboxCursorRepository.save(new OutboxCursor()));
+        List<OutboxEvent> pending = outboxEventRepository.findUnpublished(PageRequest.of(0, batchSize));
+        long offset = cursor.getLastOffset();
+        for (OutboxEvent event : pending) {
+            event.publish(++offset);
+        }
+        cursor.setLastOffset(offset);
+        return pending.size();
+    }
+
+    @Transactional
+    @Scheduled(cron = "${catalog.outbox.cleanup-cron:0 0 * * * *}")
+    public int deleteExpired() {
+        return outboxEventRepository.deletePublishedBefore(Instant.now().minus(retention));
+    }
+}
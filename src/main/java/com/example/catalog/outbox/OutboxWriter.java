@@ -0,0 +1,52 @@
+package com.example.catalog.outbox;
+
+import com.example.catalog.event.MenuItemAddedEvent;
+import com.example.catalog.event.RestaurantAddedEvent;
+import com.example.catalog.model.OutboxEvent;
+import com.example.catalog.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records catalog events in the outbox inside the transaction that produced them, so an event exists
+ * if and only if the change committed.
+ */
+@Component
+public class OutboxWriter {
+    public static final String RESTAURANT_ADDED = "RestaurantAdded";
+    public static final String MENU_ITEM_ADDED = "MenuItemAdded";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public OutboxWriter(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onRestaurantAdded(RestaurantAddedEvent event) {
+        write(RESTAURANT_ADDED, event.getRestaurantId(), event);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onMenuItemAdded(MenuItemAddedEvent event) {
+        write(MENU_ITEM_ADDED, event.getRestaurantId(), event);
+    }
+
+    private void write(String eventType, Long restaurantId, Object event) {
+        try {
+            outboxEventRepository.save(new OutboxEvent(eventType, restaurantId, objectMapper.writeValueAsString(event)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + eventType + " event", e);
+        }
+    }
+}
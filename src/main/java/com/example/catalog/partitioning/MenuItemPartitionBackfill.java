@@ -0,0 +1,111 @@
+package com.example.catalog.partitioning;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Copies menu_items into the hash-partitioned menu_items_partitioned (V6) while the application keeps
+ * writing to menu_items. Each run copies one id range under a share lock on its rows, so a concurrent
+ * update or delete either waits for the batch or is applied first and then skipped by it; the V6 trigger
+ * mirrors everything written outside the batch. Progress is kept in menu_items_backfill under a row lock,
+ * so several instances take turns instead of copying the same range.
+ * <p>
+ * When the copy is complete and cutover is enabled, the tables are swapped in one short transaction. The
+ * old table stays behind as menu_items_unpartitioned for rollback until a later migration drops it.
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.partitioning.backfill-enabled", havingValue = "true")
+public class MenuItemPartitionBackfill {
+    private static final Logger log = LoggerFactory.getLogger(MenuItemPartitionBackfill.class);
+
+    static final String LOCK_PROGRESS =
+            "SELECT last_id, completed_at, cut_over_at FROM menu_items_backfill WHERE id = 1 FOR UPDATE";
+    static final String COPY_BATCH =
+            "WITH batch AS (" +
+            "    SELECT id, name, restaurant_id, price_minor, currency FROM menu_items" +
+            "    WHERE id > ? ORDER BY id LIMIT ? FOR SHARE" +
+            "), copied AS (" +
+            "    INSERT INTO menu_items_partitioned (id, name, restaurant_id, price_minor, currency)" +
+            "    SELECT id, name, restaurant_id, price_minor, currency FROM batch" +
+            "    ON CONFLICT DO NOTHING" +
+            ") SELECT COUNT(*) AS rows_read, MAX(id) AS max_id FROM batch";
+    static final String SAVE_PROGRESS = "UPDATE menu_items_backfill SET last_id = ? WHERE id = 1";
+    static final String MARK_COMPLETED = "UPDATE menu_items_backfill SET completed_at = now() WHERE id = 1";
+    static final List<String> CUT_OVER = List.of(
+            "LOCK TABLE menu_items IN ACCESS EXCLUSIVE MODE",
+            "DROP TRIGGER trg_menu_items_mirror ON menu_items",
+            "ALTER TABLE menu_items RENAME TO menu_items_unpartitioned",
+            "ALTER INDEX menu_items_pkey RENAME TO menu_items_unpartitioned_pkey",
+            "ALTER INDEX uk_menu_items_restaurant_id_name RENAME TO uk_menu_items_unpartitioned_restaurant_id_name",
+            "ALTER INDEX idx_menu_items_restaurant_id_price_minor RENAME TO idx_menu_items_unpartitioned_restaurant_id_price_minor",
+            "ALTER TABLE menu_items_partitioned RENAME TO menu_items",
+            "ALTER INDEX pk_menu_items_partitioned RENAME TO menu_items_pkey",
+            "ALTER INDEX uk_menu_items_partitioned_restaurant_id_name RENAME TO uk_menu_items_restaurant_id_name",
+            "ALTER INDEX idx_menu_items_partitioned_restaurant_id_price_minor RENAME TO idx_menu_items_restaurant_id_price_minor",
+            "ALTER INDEX idx_menu_items_partitioned_id RENAME TO idx_menu_items_id",
+            "UPDATE menu_items_backfill SET cut_over_at = now() WHERE id = 1");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final boolean cutOverEnabled;
+    private final Duration cutOverLockTimeout;
+
+    @Autowired
+    public MenuItemPartitionBackfill(JdbcTemplate jdbcTemplate,
+                                     @Value("${catalog.partitioning.batch-size:5000}") int batchSize,
+                                     @Value("${catalog.partitioning.cut-over-enabled:false}") boolean cutOverEnabled,
+                                     @Value("${catalog.partitioning.cut-over-lock-timeout:5s}") Duration cutOverLockTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.cutOverEnabled = cutOverEnabled;
+        this.cutOverLockTimeout = cutOverLockTimeout;
+    }
+
+    /**
+     * @return the number of rows read from menu_items, 0 once the copy is complete
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${catalog.partitioning.batch-interval:1s}")
+    public int copyNextBatch() {
+        Map<String, Object> progress = jdbcTemplate.queryForMap(LOCK_PROGRESS);
+        if (progress.get("cut_over_at") != null) {
+            return 0;
+        }
+        if (progress.get("completed_at") != null) {
+            if (cutOverEnabled) {
+                cutOver();
+            }
+            return 0;
+        }
+
+        long lastId = ((Number) progress.get("last_id")).longValue();
+        Map<String, Object> batch = jdbcTemplate.queryForMap(COPY_BATCH, lastId, batchSize);
+        int rowsRead = ((Number) batch.get("rows_read")).intValue();
+        if (rowsRead == 0) {
+            // Rows written from now on reach the new table through the trigger.
+            jdbcTemplate.update(MARK_COMPLETED);
+            log.info("Menu item partition backfill complete up to id {}", lastId);
+            return 0;
+        }
+        jdbcTemplate.update(SAVE_PROGRESS, ((Number) batch.get("max_id")).longValue());
+        return rowsRead;
+    }
+
+    // A timed-out lock rolls the whole swap back; the next run tries again.
+    private void cutOver() {
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '" + cutOverLockTimeout.toMillis() + "ms'");
+        CUT_OVER.forEach(jdbcTemplate::execute);
+        log.info("Swapped menu_items for its hash-partitioned copy; the old table is kept as menu_items_unpartitioned");
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.catalog.pipeline;
+
+import com.example.catalog.Dto.BulkMenuItemImportResponse;
+import com.example.catalog.Dto.BulkMenuItemResultDto;
+import com.example.catalog.Dto.MenuItemDto;
+import com.example.catalog.Dto.MenuItemJobDto;
+import com.example.catalog.Dto.MenuItemJobStatus;
+import com.example.catalog.Exceptions.MenuItemAlreadyExistsException;
+import com.example.catalog.Exceptions.MenuItemJobNotFoundException;
+import com.example.catalog.Exceptions.MenuWriteQueueFullException;
+import com.example.catalog.Exceptions.MenuWritesUnavailableException;
+import com.example.catalog.model.MenuItem;
+import com.example.catalog.service.MenuItemService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accepts single menu item writes into a bounded queue and applies them in the background. Each worker
+ * drains up to a batch of commands and writes every restaurant's share in one transaction through the
+ * bulk import path, so a burst of single-item posts costs one restaurant lookup, one duplicate check and
+ * one batched insert per restaurant instead of one of each per item. When the queue is full, submissions
+ * are refused rather than blocking the request thread.
+ * <p>
+ * Queued commands live in memory only: on shutdown the workers finish their batch and the remaining queue
+ * is written before the application stops, but a crash loses whatever was still queued. The pipeline stops
+ * after the web server, so no request can queue work once the final drain has run; anything submitted
+ * after that is refused rather than accepted and lost.
+ */
+@Component
+public class MenuWritePipeline implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(MenuWritePipeline.class);
+    public static final String REJECTED_METRIC = "catalog.menuwrites.rejected";
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    // Below the web server's graceful shutdown (DEFAULT_PHASE - 1024) and connector stop (DEFAULT_PHASE - 2048):
+    // started before requests arrive and stopped only once they have drained.
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final MenuItemService menuItemService;
+    private final BlockingQueue<Command> queue;
+    private final int workerCount;
+    private final int maxBatchSize;
+    private final Cache<String, Job> jobs;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    @Autowired
+    public MenuWritePipeline(MenuItemService menuItemService,
+                             @Value("${catalog.menu-writes.queue-capacity:10000}") int queueCapacity,
+                             @Value("${catalog.menu-writes.workers:2}") int workerCount,
+                             @Value("${catalog.menu-writes.max-batch-size:500}") int maxBatchSize,
+                             @Value("${catalog.menu-writes.job-retention:1h}") Duration jobRetention) {
+        this.menuItemService = menuItemService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workerCount = workerCount;
+        this.maxBatchSize = Math.min(maxBatchSize, MenuItemService.MAX_BULK_SIZE);
+        // Sized well above the queue so a job is never evicted while it is still waiting to be written.
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(queueCapacity * 10L)
+                .expireAfterWrite(jobRetention)
+                .build();
+        Gauge.builder("catalog.menuwrites.queue.size", queue, BlockingQueue::size).register(Metrics.globalRegistry);
+    }
+
+    /**
+     * Validates the item and queues it for writing.
+     *
+     * @return the queued job, whose id can be polled through {@link #getJob(String)}
+     */
+    public MenuItemJobDto submit(Long restaurantId, MenuItemDto menuItemDto) {
+        // Same checks as the synchronous path, so only database outcomes are left for the job status.
+        new MenuItem(menuItemDto.getName(), menuItemDto.getPrice(), menuItemDto.getCurrency());
+        if (!running) {
+            throw new MenuWritesUnavailableException("Menu writes are not being accepted, retry later");
+        }
+
+        Job job = new Job(UUID.randomUUID().toString(), restaurantId, menuItemDto.getName());
+        Command command = new Command(restaurantId, menuItemDto, job);
+        jobs.put(job.id, job);
+        if (!queue.offer(command)) {
+            jobs.invalidate(job.id);
+            Metrics.counter(REJECTED_METRIC).increment();
+            throw new MenuWriteQueueFullException("Menu write queue is full, retry later");
+        }
+        // Raced with stop(): if the final drain missed the command, take it back rather than leave it queued.
+        if (!running && queue.remove(command)) {
+            jobs.invalidate(job.id);
+            throw new MenuWritesUnavailableException("Menu writes are not being accepted, retry later");
+        }
+        return job.toDto();
+    }
+
+    public MenuItemJobDto getJob(String jobId) {
+        Job job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new MenuItemJobNotFoundException("Menu item job '" + jobId + "' not found");
+        }
+        return job.toDto();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(Thread.ofPlatform().name("menu-writes-" + i).daemon(true).start(this::runWorker));
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        workers.clear();
+        List<Command> remaining = new ArrayList<>(maxBatchSize);
+        while (queue.drainTo(remaining, maxBatchSize) > 0) {
+            writeBatch(remaining);
+            remaining.clear();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void runWorker() {
+        List<Command> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                Command first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Menu write batch failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void writeBatch(List<Command> batch) {
+        Map<Long, List<Command>> byRestaurant = new LinkedHashMap<>();
+        for (Command command : batch) {
+            byRestaurant.computeIfAbsent(command.restaurantId, id -> new ArrayList<>()).add(command);
+        }
+        byRestaurant.forEach(this::writeRestaurant);
+    }
+
+    private void writeRestaurant(Long restaurantId, List<Command> commands) {
+        try {
+            BulkMenuItemImportResponse response = menuItemService.addMenuItems(restaurantId,
+                    commands.stream().map(command -> command.menuItemDto).toList(), false);
+            for (BulkMenuItemResultDto result : response.getResults()) {
+                commands.get(result.getIndex()).job.complete(statusOf(result), result.getMessage());
+            }
+        } catch (MenuItemAlreadyExistsException e) {
+            // A concurrent writer took one of the names after the duplicate check; retry one by one so
+            // only the clashing item is reported.
+            if (commands.size() == 1) {
+                commands.get(0).job.complete(MenuItemJobStatus.DUPLICATE, e.getMessage());
+            } else {
+                commands.forEach(command -> writeRestaurant(restaurantId, List.of(command)));
+            }
+        } catch (RuntimeException e) {
+            commands.forEach(command -> command.job.complete(MenuItemJobStatus.FAILED, e.getMessage()));
+        }
+    }
+
+    private static MenuItemJobStatus statusOf(BulkMenuItemResultDto result) {
+        return switch (result.getStatus()) {
+            case CREATED -> MenuItemJobStatus.CREATED;
+            case DUPLICATE -> MenuItemJobStatus.DUPLICATE;
+            case INVALID -> MenuItemJobStatus.INVALID;
+            case SKIPPED -> MenuItemJobStatus.FAILED;
+        };
+    }
+
+    record Command(Long restaurantId, MenuItemDto menuItemDto, Job job) {
+    }
+
+    static final class Job {
+        private final String id;
+        private final Long restaurantId;
+        private final String name;
+        private volatile MenuItemJobStatus status = MenuItemJobStatus.QUEUED;
+        private volatile String message;
+
+        private Job(String id, Long restaurantId, String name) {
+            this.id = id;
+            this.restaurantId = restaurantId;
+            this.name = name;
+        }
+
+        private void complete(MenuItemJobStatus status, String message) {
+            this.message = message;
+            this.status = status;
+        }
+
+        private MenuItemJobDto toDto() {
+            return new MenuItemJobDto(id, restaurantId, name, status, message);
+        }
+    }
+}
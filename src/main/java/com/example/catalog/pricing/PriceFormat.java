@@ -0,0 +1,134 @@
+package com.example.catalog.pricing;
+
+import java.util.Currency;
+
+/**
+ * Converts between decimal price text and minor units without going through floating point or allocating
+ * on the success path. The number of fraction digits is the currency's ISO 4217 exponent: 2 for INR, 0 for
+ * JPY, 3 for KWD.
+ */
+public final class PriceFormat {
+    // The largest ISO 4217 exponent (CLF, UYW). JSON prices are read at this scale until the currency is known.
+    public static final int MAX_FRACTION_DIGITS = 4;
+    // Long.MIN_VALUE with a sign and separator.
+    public static final int MAX_LENGTH = 22;
+
+    private static final long[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000};
+
+    private PriceFormat() {}
+
+    /**
+     * @return the currency's exponent, or -1 when the code is not an ISO 4217 currency with minor units
+     */
+    public static int fractionDigits(String currency) {
+        if (currency == null) {
+            return -1;
+        }
+        try {
+            return Currency.getInstance(currency).getDefaultFractionDigits();
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * @throws NumberFormatException when the text is not a plain decimal, has more than {@code fractionDigits}
+     *                               significant fraction digits or does not fit in a long
+     */
+    public static long parse(char[] text, int offset, int length, int fractionDigits) {
+        int end = offset + length;
+        int i = offset;
+        boolean negative = i < end && text[i] == '-';
+        if (negative) {
+            i++;
+        }
+        long units = 0;
+        int integerDigits = 0;
+        try {
+            for (; i < end && text[i] != '.'; i++, integerDigits++) {
+                units = Math.addExact(Math.multiplyExact(units, 10), digit(text[i], fractionDigits));
+            }
+            int digits = 0;
+            if (i < end) {
+                i++;
+                for (; i < end; i++, digits++) {
+                    int digit = digit(text[i], fractionDigits);
+                    if (digits < fractionDigits) {
+                        units = Math.addExact(Math.multiplyExact(units, 10), digit);
+                    } else if (digit != 0) {
+                        throw invalid(fractionDigits);
+                    }
+                }
+                if (digits == 0) {
+                    throw invalid(fractionDigits);
+                }
+            }
+            for (; digits < fractionDigits; digits++) {
+                units = Math.multiplyExact(units, 10);
+            }
+        } catch (ArithmeticException e) {
+            throw invalid(fractionDigits);
+        }
+        if (integerDigits == 0) {
+            throw invalid(fractionDigits);
+        }
+        return negative ? -units : units;
+    }
+
+    /**
+     * Converts a price read at {@link #MAX_FRACTION_DIGITS} to the currency's exponent.
+     *
+     * @throws NumberFormatException when the price has more significant fraction digits than the currency
+     */
+    public static long rescale(long maxScaleUnits, int fractionDigits) {
+        long divisor = POWERS_OF_TEN[MAX_FRACTION_DIGITS - fractionDigits];
+        if (maxScaleUnits % divisor != 0) {
+            throw invalid(fractionDigits);
+        }
+        return maxScaleUnits / divisor;
+    }
+
+    /**
+     * Writes {@code minorUnits} as a decimal with exactly {@code fractionDigits} fraction digits into the end
+     * of {@code buffer}, which must hold at least {@link #MAX_LENGTH} chars.
+     *
+     * @return the index of the first written char; the text runs to the end of the buffer
+     */
+    public static int format(long minorUnits, int fractionDigits, char[] buffer) {
+        int position = buffer.length;
+        // Work with the negated value so Long.MIN_VALUE does not overflow.
+        long remaining = minorUnits < 0 ? minorUnits : -minorUnits;
+        if (fractionDigits > 0) {
+            for (int i = 0; i < fractionDigits; i++) {
+                buffer[--position] = (char) ('0' - remaining % 10);
+                remaining /= 10;
+            }
+            buffer[--position] = '.';
+        }
+        do {
+            buffer[--position] = (char) ('0' - remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        if (minorUnits < 0) {
+            buffer[--position] = '-';
+        }
+        return position;
+    }
+
+    public static String toString(long minorUnits, int fractionDigits) {
+        char[] buffer = new char[MAX_LENGTH];
+        int start = format(minorUnits, fractionDigits, buffer);
+        return new String(buffer, start, buffer.length - start);
+    }
+
+    private static int digit(char c, int fractionDigits) {
+        if (c < '0' || c > '9') {
+            throw invalid(fractionDigits);
+        }
+        return c - '0';
+    }
+
+    private static NumberFormatException invalid(int fractionDigits) {
+        return new NumberFormatException("Price must be a decimal number with at most " + fractionDigits + " fraction digits");
+    }
+}
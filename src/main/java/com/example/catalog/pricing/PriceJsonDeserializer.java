@@ -0,0 +1,57 @@
+package com.example.catalog.pricing;
+
+import com.example.catalog.model.MenuItem;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+
+import java.io.IOException;
+
+/**
+ * Reads a JSON decimal number (or numeric string) straight from the parser's text buffer, without an
+ * intermediate double or BigDecimal. The currency may come later in the object, so the price is read at
+ * {@link PriceFormat#MAX_FRACTION_DIGITS}; the owner's JSON creator converts it with
+ * {@link PriceFormat#rescale} once the currency is known. Like any Jackson value, the result is boxed.
+ */
+public class PriceJsonDeserializer extends StdDeserializer<Long> {
+
+    public PriceJsonDeserializer() {
+        super(Long.class);
+    }
+
+    @Override
+    public Long deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT, VALUE_STRING -> {
+                try {
+                    yield PriceFormat.parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength(),
+                            PriceFormat.MAX_FRACTION_DIGITS);
+                } catch (NumberFormatException e) {
+                    throw InvalidFormatException.from(parser, e.getMessage(), parser.getText(), Long.class);
+                }
+            }
+            default -> (Long) context.handleUnexpectedToken(Long.class, parser);
+        };
+    }
+
+    /**
+     * Converts a deserialized price to minor units of {@code currency}. An unknown currency is left for
+     * {@link MenuItem} to reject, which a bulk import reports per row; its price is read in the default
+     * currency meanwhile.
+     *
+     * @throws InvalidFormatException when the price has more fraction digits than the currency; thrown as is
+     *                                from a JSON creator, so the request fails like any other unreadable price
+     */
+    public static long toMinorUnits(long price, String currency) throws InvalidFormatException {
+        int fractionDigits = PriceFormat.fractionDigits(currency);
+        if (fractionDigits < 0) {
+            fractionDigits = PriceFormat.fractionDigits(MenuItem.DEFAULT_CURRENCY);
+        }
+        try {
+            return PriceFormat.rescale(price, fractionDigits);
+        } catch (NumberFormatException e) {
+            throw new InvalidFormatException(null, e.getMessage(), price, Long.class);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.catalog.pricing;
+
+import com.example.catalog.model.MenuItem;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes minor units as a JSON decimal number with the currency's fraction digits, so {@code 29950} INR
+ * goes out as {@code 299.50} and {@code 2995} JPY as {@code 2995}. The currency comes from the
+ * {@link Priced} object being written. Jackson hands property values over boxed; the formatting itself
+ * does not allocate.
+ */
+public class PriceJsonSerializer extends StdSerializer<Long> {
+    // Generators are confined to one thread for the duration of a write.
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[PriceFormat.MAX_LENGTH]);
+
+    public PriceJsonSerializer() {
+        super(Long.class);
+    }
+
+    @Override
+    public void serialize(Long minorUnits, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        String currency = generator.currentValue() instanceof Priced priced ? priced.getCurrency() : null;
+        int fractionDigits = PriceFormat.fractionDigits(currency == null ? MenuItem.DEFAULT_CURRENCY : currency);
+        if (fractionDigits < 0) {
+            provider.reportMappingProblem("Price in unknown currency '%s'", currency);
+        }
+        char[] buffer = BUFFER.get();
+        int start = PriceFormat.format(minorUnits, fractionDigits, buffer);
+        generator.writeNumber(buffer, start, buffer.length - start);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.catalog.pricing;
+
+/**
+ * A value whose price is in minor units of its currency. {@link PriceJsonSerializer} reads the currency
+ * from the object being written, so the price goes out with the currency's number of fraction digits.
+ */
+public interface Priced {
+    /**
+     * @return the ISO 4217 code, or null for {@code MenuItem.DEFAULT_CURRENCY}
+     */
+    String getCurrency();
+}
@@ -0,0 +1,32 @@
+package com.example.catalog.querylog;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's {@code dataSource} bean, whether Boot's pool or the replica-routing proxy, so every
+ * JDBC statement passes through the listener exactly once. The pools behind it are left untouched.
+ */
+public class QueryLogDataSourcePostProcessor implements BeanPostProcessor {
+    static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final ObjectProvider<SlowQueryListener> listener;
+
+    public QueryLogDataSourcePostProcessor(ObjectProvider<SlowQueryListener> listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(listener.getObject())
+                    .build();
+        }
+        return bean;
+    }
+}
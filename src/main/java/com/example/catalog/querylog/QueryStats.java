@@ -0,0 +1,72 @@
+package com.example.catalog.querylog;
+
+import com.example.catalog.Dto.QueryStatsDto;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-statement execution counts and latencies. Hibernate binds all values as parameters, so the SQL text
+ * itself is the aggregation key; once the cap is reached, unseen statements share a single overflow entry.
+ */
+public class QueryStats {
+    static final String OVERFLOW_KEY = "(other statements)";
+
+    private final int maxStatements;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public QueryStats(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    public void record(String sql, long elapsedMillis, boolean success) {
+        Entry entry = entries.get(sql);
+        if (entry == null) {
+            String key = entries.size() < maxStatements ? sql : OVERFLOW_KEY;
+            entry = entries.computeIfAbsent(key, k -> new Entry());
+        }
+        entry.count.increment();
+        entry.totalMillis.add(elapsedMillis);
+        entry.maxMillis.accumulate(elapsedMillis);
+        if (!success) {
+            entry.failures.increment();
+        }
+    }
+
+    /**
+     * @return up to {@code limit} statements, most total time first
+     */
+    public List<QueryStatsDto> top(int limit) {
+        return entries.entrySet().stream()
+                .map(e -> e.getValue().toDto(e.getKey()))
+                .sorted(Comparator.comparingLong(QueryStatsDto::getTotalMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void reset() {
+        entries.clear();
+    }
+
+    private static final class Entry {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+
+        private QueryStatsDto toDto(String sql) {
+            long executions = count.sum();
+            long total = totalMillis.sum();
+            return new QueryStatsDto(sql, executions, failures.sum(), total, maxMillis.get(),
+                    executions == 0 ? 0 : (double) total / executions);
+        }
+    }
+}
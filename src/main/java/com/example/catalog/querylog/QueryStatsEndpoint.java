@@ -0,0 +1,33 @@
+package com.example.catalog.querylog;
+
+import com.example.catalog.Dto.QueryStatsDto;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * GET /actuator/querystats lists statements by total time spent; DELETE starts a fresh measurement.
+ */
+@Endpoint(id = "querystats")
+public class QueryStatsEndpoint {
+    private static final int DEFAULT_LIMIT = 50;
+
+    private final QueryStats queryStats;
+
+    public QueryStatsEndpoint(QueryStats queryStats) {
+        this.queryStats = queryStats;
+    }
+
+    @ReadOperation
+    public List<QueryStatsDto> queryStats(@Nullable Integer limit) {
+        return queryStats.top(limit == null || limit < 1 ? DEFAULT_LIMIT : limit);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        queryStats.reset();
+    }
+}
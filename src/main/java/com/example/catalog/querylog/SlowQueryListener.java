@@ -0,0 +1,104 @@
+package com.example.catalog.querylog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Feeds every executed statement into {@link QueryStats} and emits one JSON line per statement that took at
+ * least the threshold. Bind values are reduced to their types so no customer data reaches the log. Writing
+ * the line is left to the sink, which in production is an async, never-blocking appender.
+ */
+public class SlowQueryListener implements QueryExecutionListener {
+    private static final String APPLICATION_PACKAGE = "com.example.catalog.";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private final long slowThresholdMillis;
+    private final QueryStats queryStats;
+    private final Consumer<String> slowQueryLog;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public SlowQueryListener(long slowThresholdMillis, QueryStats queryStats, Consumer<String> slowQueryLog) {
+        this.slowThresholdMillis = slowThresholdMillis;
+        this.queryStats = queryStats;
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMillis = execInfo.getElapsedTime();
+        for (QueryInfo queryInfo : queryInfoList) {
+            queryStats.record(queryInfo.getQuery(), elapsedMillis, execInfo.isSuccess());
+        }
+        if (elapsedMillis >= slowThresholdMillis) {
+            slowQueryLog.accept(toJson(execInfo, queryInfoList));
+        }
+    }
+
+    String toJson(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("type", "slow_query");
+        entry.put("elapsedMillis", execInfo.getElapsedTime());
+        entry.put("success", execInfo.isSuccess());
+        entry.put("dataSource", execInfo.getDataSourceName());
+        entry.put("caller", callerMethod().orElse(null));
+        if (execInfo.isBatch()) {
+            entry.put("batchSize", execInfo.getBatchSize());
+        }
+        List<Map<String, Object>> queries = new ArrayList<>();
+        for (QueryInfo queryInfo : queryInfoList) {
+            Map<String, Object> query = new LinkedHashMap<>();
+            query.put("sql", queryInfo.getQuery());
+            query.put("parameters", parameterShape(queryInfo));
+            queries.add(query);
+        }
+        entry.put("queries", queries);
+        try {
+            return objectMapper.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize slow query log entry", e);
+        }
+    }
+
+    // Types of the first parameter set in bind order; batches repeat the same shape.
+    private static List<String> parameterShape(QueryInfo queryInfo) {
+        if (queryInfo.getParametersList().isEmpty()) {
+            return List.of();
+        }
+        List<ParameterSetOperation> operations = queryInfo.getParametersList().get(0);
+        List<String> shape = new ArrayList<>(operations.size());
+        for (ParameterSetOperation operation : operations) {
+            Object[] args = operation.getArgs();
+            if ("setNull".equals(operation.getMethod().getName()) || args.length < 2 || args[1] == null) {
+                shape.add("null");
+            } else {
+                shape.add(args[1].getClass().getSimpleName());
+            }
+        }
+        return shape;
+    }
+
+    // Innermost application frame, which for repository calls is the service method that issued them.
+    private static Optional<String> callerMethod() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE))
+                .filter(frame -> frame.getDeclaringClass() != SlowQueryListener.class)
+                .filter(frame -> !frame.getClassName().contains("$$"))
+                .findFirst()
+                .map(frame -> frame.getDeclaringClass().getSimpleName() + "." + frame.getMethodName()));
+    }
+}
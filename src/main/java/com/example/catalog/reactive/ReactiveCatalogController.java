@@ -0,0 +1,58 @@
+package com.example.catalog.reactive;
+
+import com.example.catalog.Dto.MenuItemResponseDto;
+import com.example.catalog.Dto.RestaurantResponseDto;
+import com.example.catalog.Dto.RestaurantSummaryDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking mirror of the catalog GET routes. Spring MVC subscribes to the returned publishers, so
+ * no request thread is held while R2DBC waits on Postgres. A Flux answered as JSON is collected into a
+ * list before anything is written, so listing every restaurant with its menu only streams as NDJSON.
+ */
+@RestController
+@RequestMapping("/catalog/reactive/restaurants")
+public class ReactiveCatalogController {
+    private final ReactiveCatalogService catalogService;
+
+    @Autowired
+    public ReactiveCatalogController(ReactiveCatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    // Collected in full by Spring MVC; kept for clients that cannot read NDJSON.
+    @GetMapping
+    public Flux<RestaurantResponseDto> getAllRestaurants() {
+        return catalogService.getAllRestaurants();
+    }
+
+    // Written one line per restaurant, requesting the next only after the previous one has been sent.
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<RestaurantResponseDto> streamAllRestaurants() {
+        return catalogService.getAllRestaurants();
+    }
+
+    @GetMapping(value = "/summaries", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<RestaurantSummaryDto> streamRestaurants() {
+        return catalogService.streamRestaurants();
+    }
+
+    @GetMapping("/{restaurantId}")
+    public Mono<RestaurantResponseDto> getRestaurantById(@PathVariable Long restaurantId) {
+        return catalogService.getRestaurantById(restaurantId);
+    }
+
+    @GetMapping("/{restaurantId}/menuItems")
+    public Flux<MenuItemResponseDto> getAllMenuItems(@PathVariable Long restaurantId) {
+        return catalogService.getAllMenuItems(restaurantId);
+    }
+
+    @GetMapping("/{restaurantId}/menuItems/{menuItemId}")
+    public Mono<MenuItemResponseDto> getMenuItemById(@PathVariable Long restaurantId, @PathVariable Long menuItemId) {
+        return catalogService.getMenuItemById(menuItemId, restaurantId);
+    }
+}
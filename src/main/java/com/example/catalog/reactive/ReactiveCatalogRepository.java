@@ -0,0 +1,72 @@
+package com.example.catalog.reactive;
+
+import com.example.catalog.Dto.MenuItemResponseDto;
+import com.example.catalog.Dto.RestaurantSummaryDto;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Non-blocking counterparts of the projection queries in RestaurantRepository and MenuItemRepository.
+ */
+@Repository
+public class ReactiveCatalogRepository {
+    private static final String RESTAURANT_COLUMNS = "SELECT id, name, address FROM restaurants";
+    private static final String MENU_ITEM_COLUMNS = "SELECT id, name, price_minor, currency, restaurant_id FROM menu_items";
+
+    private final DatabaseClient databaseClient;
+
+    @Autowired
+    public ReactiveCatalogRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<RestaurantSummaryDto> findAllSummaries() {
+        return databaseClient.sql(RESTAURANT_COLUMNS + " ORDER BY id")
+                .map(ReactiveCatalogRepository::toRestaurantSummary)
+                .all();
+    }
+
+    public Mono<RestaurantSummaryDto> findSummaryById(Long restaurantId) {
+        return databaseClient.sql(RESTAURANT_COLUMNS + " WHERE id = :restaurantId")
+                .bind("restaurantId", restaurantId)
+                .map(ReactiveCatalogRepository::toRestaurantSummary)
+                .one();
+    }
+
+    public Flux<MenuItemResponseDto> findMenuItemsByRestaurantId(Long restaurantId) {
+        return databaseClient.sql(MENU_ITEM_COLUMNS + " WHERE restaurant_id = :restaurantId ORDER BY id")
+                .bind("restaurantId", restaurantId)
+                .map(ReactiveCatalogRepository::toMenuItem)
+                .all();
+    }
+
+    public Flux<MenuItemResponseDto> findMenuItemsByRestaurantIdIn(Collection<Long> restaurantIds) {
+        return databaseClient.sql(MENU_ITEM_COLUMNS + " WHERE restaurant_id IN (:restaurantIds) ORDER BY id")
+                .bind("restaurantIds", restaurantIds)
+                .map(ReactiveCatalogRepository::toMenuItem)
+                .all();
+    }
+
+    public Mono<MenuItemResponseDto> findMenuItemByIdAndRestaurantId(Long menuItemId, Long restaurantId) {
+        return databaseClient.sql(MENU_ITEM_COLUMNS + " WHERE id = :menuItemId AND restaurant_id = :restaurantId")
+                .bind("menuItemId", menuItemId)
+                .bind("restaurantId", restaurantId)
+                .map(ReactiveCatalogRepository::toMenuItem)
+                .one();
+    }
+
+    private static RestaurantSummaryDto toRestaurantSummary(Readable row) {
+        return new RestaurantSummaryDto(row.get("id", Long.class), row.get("name", String.class), row.get("address", String.class));
+    }
+
+    private static MenuItemResponseDto toMenuItem(Readable row) {
+        return new MenuItemResponseDto(row.get("id", Long.class), row.get("name", String.class),
+                row.get("price_minor", Long.class), row.get("currency", String.class), row.get("restaurant_id", Long.class));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.catalog.reactive;
+
+import com.example.catalog.Dto.MenuItemResponseDto;
+import com.example.catalog.Dto.RestaurantResponseDto;
+import com.example.catalog.Dto.RestaurantSummaryDto;
+import com.example.catalog.Exceptions.MenuItemNotFoundException;
+import com.example.catalog.Exceptions.RestaurantNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+public class ReactiveCatalogService {
+    // Restaurants are read as a stream and their menus fetched one chunk at a time. With prefetch 1 at most
+    // two chunks are held at once, but only while the subscriber streams (NDJSON); a JSON response
+    // collects the whole Flux regardless.
+    static final int MENU_CHUNK_SIZE = 100;
+
+    private final ReactiveCatalogRepository catalogRepository;
+
+    @Autowired
+    public ReactiveCatalogService(ReactiveCatalogRepository catalogRepository) {
+        this.catalogRepository = catalogRepository;
+    }
+
+    public Flux<RestaurantResponseDto> getAllRestaurants() {
+        return catalogRepository.findAllSummaries()
+                .buffer(MENU_CHUNK_SIZE)
+                .concatMap(this::withMenuItems, 1);
+    }
+
+    public Flux<RestaurantSummaryDto> streamRestaurants() {
+        return catalogRepository.findAllSummaries();
+    }
+
+    public Mono<RestaurantResponseDto> getRestaurantById(Long restaurantId) {
+        return catalogRepository.findSummaryById(restaurantId)
+                .switchIfEmpty(Mono.error(() -> new RestaurantNotFoundException("Restaurant with id '" + restaurantId + "' not found")))
+                .flatMap(restaurant -> catalogRepository.findMenuItemsByRestaurantId(restaurantId)
+                        .collectList()
+                        .map(menuItems -> toResponse(restaurant, menuItems)));
+    }
+
+    public Flux<MenuItemResponseDto> getAllMenuItems(Long restaurantId) {
+        return requireRestaurant(restaurantId)
+                .thenMany(catalogRepository.findMenuItemsByRestaurantId(restaurantId));
+    }
+
+    public Mono<MenuItemResponseDto> getMenuItemById(Long menuItemId, Long restaurantId) {
+        return requireRestaurant(restaurantId)
+                .then(catalogRepository.findMenuItemByIdAndRestaurantId(menuItemId, restaurantId))
+                .switchIfEmpty(Mono.error(() -> new MenuItemNotFoundException(
+                        "Menu item with ID '" + menuItemId + "' not found for restaurant with ID '" + restaurantId + "'")));
+    }
+
+    private Mono<RestaurantSummaryDto> requireRestaurant(Long restaurantId) {
+        return catalogRepository.findSummaryById(restaurantId)
+                .switchIfEmpty(Mono.error(() -> new RestaurantNotFoundException("Restaurant with ID '" + restaurantId + "' not found")));
+    }
+
+    private Flux<RestaurantResponseDto> withMenuItems(List<RestaurantSummaryDto> restaurants) {
+        List<Long> restaurantIds = restaurants.stream().map(RestaurantSummaryDto::getId).toList();
+        return catalogRepository.findMenuItemsByRestaurantIdIn(restaurantIds)
+                .collect(Collectors.groupingBy(MenuItemResponseDto::getRestaurantId))
+                .flatMapMany(menuItemsByRestaurant -> Flux.fromIterable(restaurants)
+                        .map(restaurant -> toResponse(restaurant, menuItemsByRestaurant.getOrDefault(restaurant.getId(), List.of()))));
+    }
+
+    private static RestaurantResponseDto toResponse(RestaurantSummaryDto restaurant, List<MenuItemResponseDto> menuItems) {
+        return new RestaurantResponseDto(restaurant.getId(), restaurant.getName(), restaurant.getAddress(), menuItems);
+    }
+}
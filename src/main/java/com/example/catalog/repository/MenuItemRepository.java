@@ -1,21 +1,93 @@
 package com.example.catalog.repository;
 
+import com.example.catalog.Dto.MenuItemResponseDto;
+import com.example.catalog.config.CacheConfig;
 import com.example.catalog.model.MenuItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * Every query except the full-catalog scans filters on restaurant_id, which prunes the hash-partitioned
+ * menu_items table (V6) to a single partition. Read hints are as described on {@link RestaurantRepository}.
+ */
 @Repository
 public interface MenuItemRepository extends JpaRepository<MenuItem, Long> {
-    @Query("SELECT m FROM MenuItem m WHERE m.name = :itemName AND m.restaurant.id = :restaurantId")
-    Optional<MenuItem> findByNameAndRestaurantId(String itemName, Long restaurantId);
+    @Query("SELECT m.name FROM MenuItem m WHERE m.restaurant.id = :restaurantId AND m.name IN :itemNames")
+    List<String> findExistingNames(Long restaurantId, Collection<String> itemNames);
 
-    @Query("SELECT m FROM MenuItem m WHERE m.restaurant.id = :restaurantId")
-    List<MenuItem> findByRestaurantId(Long restaurantId);
+    // Read-endpoint queries go through Hibernate's query cache, which drops their results whenever the
+    // menuItems table is written through Hibernate.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheConfig.MENU_ITEM_QUERY_REGION),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT")
+    })
+    @Query("SELECT new com.example.catalog.Dto.MenuItemResponseDto(m.id, m.name, m.priceMinor, m.currency, m.restaurant.id) FROM MenuItem m WHERE m.restaurant.id = :restaurantId ORDER BY m.id")
+    List<MenuItemResponseDto> findByRestaurantId(Long restaurantId);
 
-    @Query("SELECT m FROM MenuItem m WHERE m.id = :menuItemId AND m.restaurant.id = :restaurantId")
-    Optional<MenuItem> findByIdAndRestaurantId(Long menuItemId, Long restaurantId);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheConfig.MENU_ITEM_QUERY_REGION),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT")
+    })
+    @Query("SELECT new com.example.catalog.Dto.MenuItemResponseDto(m.id, m.name, m.priceMinor, m.currency, m.restaurant.id) FROM MenuItem m WHERE m.id = :menuItemId AND m.restaurant.id = :restaurantId")
+    Optional<MenuItemResponseDto> findByIdAndRestaurantId(Long menuItemId, Long restaurantId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheConfig.MENU_ITEM_QUERY_REGION),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT")
+    })
+    @Query("SELECT new com.example.catalog.Dto.MenuItemResponseDto(m.id, m.name, m.priceMinor, m.currency, m.restaurant.id) FROM MenuItem m WHERE m.restaurant.id IN :restaurantIds ORDER BY m.id")
+    List<MenuItemResponseDto> findByRestaurantIdIn(Collection<Long> restaurantIds);
+
+    // Keyset pages over idx_menu_items_restaurant_id_price_minor; the bounds are always bound so the
+    // range stays sargable, and (priceMinor, id) breaks price ties deterministically.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheConfig.MENU_ITEM_QUERY_REGION),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT")
+    })
+    @Query("SELECT new com.example.catalog.Dto.MenuItemResponseDto(m.id, m.name, m.priceMinor, m.currency, m.restaurant.id) FROM MenuItem m WHERE m.restaurant.id = :restaurantId AND m.priceMinor BETWEEN :minPrice AND :maxPrice AND m.id > :afterId ORDER BY m.id")
+    List<MenuItemResponseDto> findPageById(Long restaurantId, long minPrice, long maxPrice, long afterId, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheConfig.MENU_ITEM_QUERY_REGION),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT")
+    })
+    @Query("SELECT new com.example.catalog.Dto.MenuItemResponseDto(m.id, m.name, m.priceMinor, m.currency, m.restaurant.id) FROM MenuItem m WHERE m.restaurant.id = :restaurantId AND m.priceMinor BETWEEN :minPrice AND :maxPrice AND (m.priceMinor > :afterPrice OR (m.priceMinor = :afterPrice AND m.id > :afterId)) ORDER BY m.priceMinor, m.id")
+    List<MenuItemResponseDto> findPageByPriceAsc(Long restaurantId, long minPrice, long maxPrice, long afterPrice, long afterId, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheConfig.MENU_ITEM_QUERY_REGION),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT")
+    })
+    @Query("SELECT new com.example.catalog.Dto.MenuItemResponseDto(m.id, m.name, m.priceMinor, m.currency, m.restaurant.id) FROM MenuItem m WHERE m.restaurant.id = :restaurantId AND m.priceMinor BETWEEN :minPrice AND :maxPrice AND (m.priceMinor < :afterPrice OR (m.priceMinor = :afterPrice AND m.id < :afterId)) ORDER BY m.priceMinor DESC, m.id DESC")
+    List<MenuItemResponseDto> findPageByPriceDesc(Long restaurantId, long minPrice, long maxPrice, long afterPrice, long afterId, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT")
+    })
+    @Query("SELECT new com.example.catalog.Dto.MenuItemResponseDto(m.id, m.name, m.priceMinor, m.currency, m.restaurant.id) FROM MenuItem m ORDER BY m.id")
+    Stream<MenuItemResponseDto> streamAllResponses();
 }
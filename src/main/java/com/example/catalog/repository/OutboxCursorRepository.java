@@ -0,0 +1,17 @@
+package com.example.catalog.repository;
+
+import com.example.catalog.model.OutboxCursor;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface OutboxCursorRepository extends JpaRepository<OutboxCursor, Integer> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM OutboxCursor c WHERE c.id = " + OutboxCursor.ID)
+    Optional<OutboxCursor> lockCursor();
+}
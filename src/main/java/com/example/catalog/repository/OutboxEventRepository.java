@@ -0,0 +1,34 @@
+package com.example.catalog.repository;
+
+import com.example.catalog.model.OutboxEvent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    @Query("SELECT e FROM OutboxEvent e WHERE e.eventOffset IS NULL ORDER BY e.id")
+    List<OutboxEvent> findUnpublished(Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT")
+    })
+    @Query("SELECT e FROM OutboxEvent e WHERE e.eventOffset > :afterOffset ORDER BY e.eventOffset")
+    List<OutboxEvent> findPublishedAfter(long afterOffset, Pageable pageable);
+
+    @Query("SELECT MIN(e.eventOffset) FROM OutboxEvent e")
+    Long findOldestPublishedOffset();
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.eventOffset IS NOT NULL AND e.createdAt < :createdBefore")
+    int deletePublishedBefore(Instant createdBefore);
+}
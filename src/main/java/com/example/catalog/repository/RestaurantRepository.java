@@ -1,14 +1,75 @@
 package com.example.catalog.repository;
 
+import com.example.catalog.Dto.RestaurantSummaryDto;
+import com.example.catalog.Dto.RestaurantVersionDto;
 import com.example.catalog.model.Restaurant;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * Read queries carry read-only and COMMIT flush-mode hints: they neither snapshot entities for dirty checking
+ * nor flush the persistence context first, even when called outside a read-only transaction. Do not use
+ * them to read back changes made earlier in the same transaction.
+ */
 @Repository
 public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
-    @Query("SELECT r FROM Restaurant r WHERE r.name = :name AND r.address = :address")
-    Optional<Restaurant> findByNameAndAddress(String name, String address);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT")
+    })
+    @Query("SELECT new com.example.catalog.Dto.RestaurantSummaryDto(r.id, r.name, r.address) FROM Restaurant r WHERE r.id = :restaurantId")
+    Optional<RestaurantSummaryDto> findSummaryById(Long restaurantId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT")
+    })
+    @Query("SELECT r.id FROM Restaurant r WHERE r.id IN :restaurantIds")
+    List<Long> findExistingIds(Collection<Long> restaurantIds);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT")
+    })
+    @Query("SELECT new com.example.catalog.Dto.RestaurantVersionDto(v.restaurantId, v.version, v.lastModified) FROM RestaurantMenuVersion v WHERE v.restaurantId = :restaurantId")
+    Optional<RestaurantVersionDto> findVersionById(Long restaurantId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT")
+    })
+    @Query("SELECT new com.example.catalog.Dto.RestaurantSummaryDto(r.id, r.name, r.address) FROM Restaurant r WHERE r.id > :afterId ORDER BY r.id")
+    List<RestaurantSummaryDto> findSummaryPageAfter(Long afterId, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT")
+    })
+    @Query("SELECT new com.example.catalog.Dto.RestaurantSummaryDto(r.id, r.name, r.address) FROM Restaurant r ORDER BY r.id")
+    Stream<RestaurantSummaryDto> streamAllSummaries();
+
+    @Modifying
+    @Query("INSERT INTO RestaurantMenuVersion (restaurantId, version, lastModified) VALUES (:restaurantId, 0, instant)")
+    int createMenuVersion(Long restaurantId);
+
+    /**
+     * Bumps the menu version in the database rather than on a loaded entity, so concurrent menu writes to the
+     * same restaurant serialize on the row lock and each commits its own version. The row lives in the
+     * uncached restaurant_menu_versions table, so the bulk update leaves the cached restaurants alone.
+     */
+    @Modifying
+    @Query("UPDATE RestaurantMenuVersion v SET v.version = v.version + 1, v.lastModified = instant WHERE v.restaurantId = :restaurantId")
+    int recordMenuChange(Long restaurantId);
 }
@@ -0,0 +1,270 @@
+package com.example.catalog.search;
+
+import com.example.catalog.Dto.SearchResultDto;
+import com.example.catalog.Dto.SearchResultType;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over restaurant and menu item names. Every token maps to a sorted list of
+ * document ordinals; all query tokens but the last must match exactly and the last one matches as a
+ * prefix. Results are the lowest matching ordinals, i.e. the earliest indexed documents. Memory is bounded by the document cap and by the per-document token limits. Adding a restaurant or
+ * menu item id that is already indexed is a no-op, so loads and event replays may overlap.
+ */
+@Component
+public class CatalogSearchIndex {
+    private static final Logger log = LoggerFactory.getLogger(CatalogSearchIndex.class);
+    public static final String DROPPED_METRIC = "catalog.search.dropped.documents";
+    static final int MAX_TOKENS_PER_DOCUMENT = 16;
+    static final int MAX_TOKEN_LENGTH = 32;
+
+    private final int maxDocuments;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+    private final List<SearchResultDto> documents = new ArrayList<>();
+    private final IdSet restaurantIds = new IdSet();
+    private final IdSet menuItemIds = new IdSet();
+    private boolean full;
+
+    public CatalogSearchIndex(@Value("${catalog.search.max-documents:2000000}") int maxDocuments) {
+        this.maxDocuments = maxDocuments;
+    }
+
+    public boolean addRestaurant(Long restaurantId, String name) {
+        return add(new SearchResultDto(SearchResultType.RESTAURANT, restaurantId, null, name));
+    }
+
+    public boolean addMenuItem(Long restaurantId, Long menuItemId, String name) {
+        return add(new SearchResultDto(SearchResultType.MENU_ITEM, restaurantId, menuItemId, name));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<SearchResultDto> search(String query, int limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Postings> exactMatches = new ArrayList<>();
+            for (String token : tokens.subList(0, tokens.size() - 1)) {
+                Postings postings = terms.get(token);
+                if (postings == null) {
+                    return List.of();
+                }
+                exactMatches.add(postings);
+            }
+            String prefix = tokens.get(tokens.size() - 1);
+            List<Postings> prefixMatches = new ArrayList<>(terms.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values());
+            if (prefixMatches.isEmpty()) {
+                return List.of();
+            }
+
+            Postings hits;
+            if (exactMatches.isEmpty()) {
+                hits = Postings.union(prefixMatches, limit);
+            } else {
+                // Start from the rarest token so every intersection walks the shortest list.
+                exactMatches.sort(Comparator.comparingInt(postings -> postings.size));
+                Postings exact = exactMatches.get(0);
+                for (Postings postings : exactMatches.subList(1, exactMatches.size())) {
+                    exact = exact.intersect(postings, Integer.MAX_VALUE);
+                }
+                hits = matchPrefix(exact, prefixMatches, limit);
+            }
+            List<SearchResultDto> results = new ArrayList<>(hits.size);
+            for (int i = 0; i < hits.size; i++) {
+                results.add(documents.get(hits.ordinals[i]));
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean add(SearchResultDto document) {
+        List<String> tokens = tokenize(document.getName());
+        if (tokens.isEmpty()) {
+            return false;
+        }
+
+        IdSet ids = document.getType() == SearchResultType.RESTAURANT ? restaurantIds : menuItemIds;
+        long id = document.getType() == SearchResultType.RESTAURANT ? document.getRestaurantId() : document.getMenuItemId();
+        lock.writeLock().lock();
+        try {
+            if (ids.contains(id)) {
+                return false;
+            }
+            if (documents.size() >= maxDocuments) {
+                Metrics.counter(DROPPED_METRIC).increment();
+                if (!full) {
+                    full = true;
+                    log.warn("Search index is full at {} documents; further documents are not searchable", maxDocuments);
+                }
+                return false;
+            }
+            ids.add(id);
+            int ordinal = documents.size();
+            documents.add(document);
+            for (String token : tokens) {
+                terms.computeIfAbsent(token, key -> new Postings()).append(ordinal);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Probes each exact match against the prefix terms when that is cheaper than merging every prefix term.
+    private static Postings matchPrefix(Postings exact, List<Postings> prefixMatches, int limit) {
+        long prefixOrdinals = 0;
+        for (Postings postings : prefixMatches) {
+            prefixOrdinals += postings.size;
+        }
+        if ((long) exact.size * prefixMatches.size() > prefixOrdinals) {
+            return exact.intersect(Postings.union(prefixMatches, Integer.MAX_VALUE), limit);
+        }
+        Postings result = new Postings();
+        for (int i = 0; i < exact.size && result.size < limit; i++) {
+            for (Postings postings : prefixMatches) {
+                if (postings.contains(exact.ordinals[i])) {
+                    result.append(exact.ordinals[i]);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i <= text.length() && tokens.size() < MAX_TOKENS_PER_DOCUMENT; i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                if (token.length() < MAX_TOKEN_LENGTH) {
+                    token.append(Character.toLowerCase(c));
+                }
+            } else if (!token.isEmpty()) {
+                String value = token.toString();
+                if (!tokens.contains(value)) {
+                    tokens.add(value);
+                }
+                token.setLength(0);
+            }
+        }
+        return tokens;
+    }
+
+    // Ids are sequence-generated, so a bitmap is far smaller than boxed longs; ids beyond int range overflow into a set.
+    private static final class IdSet {
+        private final BitSet small = new BitSet();
+        private final Set<Long> large = new HashSet<>();
+
+        private boolean contains(long id) {
+            return id >= 0 && id <= Integer.MAX_VALUE ? small.get((int) id) : large.contains(id);
+        }
+
+        private void add(long id) {
+            if (id >= 0 && id <= Integer.MAX_VALUE) {
+                small.set((int) id);
+            } else {
+                large.add(id);
+            }
+        }
+    }
+
+    private static final class Postings {
+        private int[] ordinals = new int[2];
+        private int size;
+
+        private void append(int ordinal) {
+            if (size > 0 && ordinals[size - 1] == ordinal) {
+                return;
+            }
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        private boolean contains(int ordinal) {
+            return Arrays.binarySearch(ordinals, 0, size, ordinal) >= 0;
+        }
+
+        // Walks the shorter list and binary-searches the longer one from the last match onwards.
+        private Postings intersect(Postings other, int limit) {
+            Postings shorter = size <= other.size ? this : other;
+            Postings longer = shorter == this ? other : this;
+            Postings result = new Postings();
+            int from = 0;
+            for (int i = 0; i < shorter.size && from < longer.size && result.size < limit; i++) {
+                int found = Arrays.binarySearch(longer.ordinals, from, longer.size, shorter.ordinals[i]);
+                if (found >= 0) {
+                    result.append(shorter.ordinals[i]);
+                    from = found + 1;
+                } else {
+                    from = -found - 1;
+                }
+            }
+            return result;
+        }
+
+        // Merges sorted postings into their sorted, de-duplicated union, stopping after limit ordinals.
+        private static Postings union(List<Postings> postings, int limit) {
+            PriorityQueue<Cursor> cursors = new PriorityQueue<>(Comparator.comparingInt(Cursor::current));
+            for (Postings list : postings) {
+                cursors.add(new Cursor(list));
+            }
+            Postings result = new Postings();
+            while (!cursors.isEmpty() && result.size < limit) {
+                Cursor cursor = cursors.poll();
+                result.append(cursor.current());
+                if (++cursor.position < cursor.postings.size) {
+                    cursors.add(cursor);
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class Cursor {
+        private final Postings postings;
+        private int position;
+
+        private Cursor(Postings postings) {
+            this.postings = postings;
+        }
+
+        private int current() {
+            return postings.ordinals[position];
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.catalog.search;
+
+import com.example.catalog.event.MenuItemAddedEvent;
+import com.example.catalog.event.RestaurantAddedEvent;
+import com.example.catalog.service.MenuItemService;
+import com.example.catalog.service.RestaurantService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills the search index from the database once the application is ready and keeps it current from
+ * catalog events. Events that arrive during the initial load are all replayed afterwards: ids come from
+ * pooled sequences and commit out of order, so an id below the last streamed one may still be missing.
+ * The index ignores ids it already holds.
+ */
+@Component
+public class CatalogSearchIndexLoader {
+    private static final Logger log = LoggerFactory.getLogger(CatalogSearchIndexLoader.class);
+
+    private final CatalogSearchIndex searchIndex;
+    private final RestaurantService restaurantService;
+    private final MenuItemService menuItemService;
+
+    private final List<Object> pendingEvents = new ArrayList<>();
+    private boolean loading = true;
+
+    @Autowired
+    public CatalogSearchIndexLoader(CatalogSearchIndex searchIndex, RestaurantService restaurantService, MenuItemService menuItemService) {
+        this.searchIndex = searchIndex;
+        this.restaurantService = restaurantService;
+        this.menuItemService = menuItemService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        restaurantService.streamRestaurants(restaurant ->
+                searchIndex.addRestaurant(restaurant.getId(), restaurant.getName()));
+        menuItemService.streamMenuItems(menuItem ->
+                searchIndex.addMenuItem(menuItem.getRestaurantId(), menuItem.getId(), menuItem.getName()));
+
+        synchronized (this) {
+            loading = false;
+            pendingEvents.forEach(this::apply);
+            pendingEvents.clear();
+        }
+        log.info("Search index loaded with {} documents", searchIndex.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onRestaurantAdded(RestaurantAddedEvent event) {
+        if (loading) {
+            pendingEvents.add(event);
+        } else {
+            apply(event);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onMenuItemAdded(MenuItemAddedEvent event) {
+        if (loading) {
+            pendingEvents.add(event);
+        } else {
+            apply(event);
+        }
+    }
+
+    private void apply(Object event) {
+        if (event instanceof RestaurantAddedEvent restaurantAdded) {
+            searchIndex.addRestaurant(restaurantAdded.getRestaurantId(), restaurantAdded.getName());
+        } else if (event instanceof MenuItemAddedEvent menuItemAdded) {
+            searchIndex.addMenuItem(menuItemAdded.getRestaurantId(), menuItemAdded.getMenuItemId(), menuItemAdded.getName());
+        }
+    }
+}
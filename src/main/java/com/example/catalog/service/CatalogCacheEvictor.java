@@ -0,0 +1,85 @@
+package com.example.catalog.service;
+
+import com.example.catalog.config.CacheConfig;
+import com.example.catalog.event.MenuItemAddedEvent;
+import com.example.catalog.event.RestaurantAddedEvent;
+import com.example.catalog.model.Restaurant;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Evicts a restaurant's cache entries once the write that changed it has committed. Evicting inside the
+ * write transaction would let a concurrent miss read the still-committed old state and cache it until
+ * the TTL. A read that started before the commit can still finish after this eviction, and with read
+ * replicas a lagging replica can serve the old state for a while, so the same keys are evicted again
+ * after {@code catalog.cache.re-eviction-delay}. The delayed pass also covers Hibernate's second-level
+ * cache, including the menu item query region.
+ */
+@Component
+public class CatalogCacheEvictor {
+    private final CacheManager cacheManager;
+    private final SessionFactory sessionFactory;
+    private final TaskScheduler taskScheduler;
+    private final Duration reEvictionDelay;
+    // A bulk import publishes one event per item; one pending re-eviction per restaurant is enough.
+    private final Set<Long> pendingRestaurantIds = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public CatalogCacheEvictor(CacheManager cacheManager, EntityManagerFactory entityManagerFactory, TaskScheduler taskScheduler,
+                               @Value("${catalog.cache.re-eviction-delay:5s}") Duration reEvictionDelay) {
+        this.cacheManager = cacheManager;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.taskScheduler = taskScheduler;
+        this.reEvictionDelay = reEvictionDelay;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantAdded(RestaurantAddedEvent event) {
+        evictAfterCommit(event.getRestaurantId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuItemAdded(MenuItemAddedEvent event) {
+        evictAfterCommit(event.getRestaurantId());
+    }
+
+    private void evictAfterCommit(Long restaurantId) {
+        evictCaches(restaurantId);
+        if (!pendingRestaurantIds.add(restaurantId)) {
+            return;
+        }
+        taskScheduler.schedule(() -> {
+            pendingRestaurantIds.remove(restaurantId);
+            evictCaches(restaurantId);
+            org.hibernate.Cache secondLevelCache = sessionFactory.getCache();
+            secondLevelCache.evictEntityData(Restaurant.class, restaurantId);
+            secondLevelCache.evictCollectionData(Restaurant.class.getName() + ".menuItems", restaurantId);
+            secondLevelCache.evictQueryRegion(CacheConfig.MENU_ITEM_QUERY_REGION);
+        }, Instant.now().plus(reEvictionDelay));
+    }
+
+    private void evictCaches(Long restaurantId) {
+        evict(CacheConfig.RESTAURANTS, restaurantId);
+        evict(CacheConfig.MENU_ITEMS, restaurantId);
+        evict(CacheConfig.RESTAURANT_VERSIONS, restaurantId);
+    }
+
+    private void evict(String cacheName, Long restaurantId) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(restaurantId);
+        }
+    }
+}
@@ -1,49 +1,305 @@
 package com.example.catalog.service;
 
+import com.example.catalog.Dto.BulkMenuItemImportResponse;
+import com.example.catalog.Dto.BulkMenuItemResultDto;
+import com.example.catalog.Dto.BulkMenuItemStatus;
+import com.example.catalog.Dto.MenuBatchResultDto;
+import com.example.catalog.Dto.MenuBatchStatus;
+import com.example.catalog.Dto.MenuItemDto;
+import com.example.catalog.Dto.MenuItemPage;
+import com.example.catalog.Dto.MenuItemResponseDto;
+import com.example.catalog.Dto.MenuItemSort;
+import com.example.catalog.Dto.RestaurantVersionDto;
+import com.example.catalog.Exceptions.BulkImportLimitExceededException;
+import com.example.catalog.Exceptions.InvalidBatchGetRequestException;
+import com.example.catalog.Exceptions.InvalidCurrencyException;
+import com.example.catalog.Exceptions.InvalidPageRequestException;
 import com.example.catalog.Exceptions.MenuItemAlreadyExistsException;
+import com.example.catalog.Exceptions.MenuItemNameCannotBeNullOrEmptyException;
 import com.example.catalog.Exceptions.MenuItemNotFoundException;
+import com.example.catalog.Exceptions.PriceMustBePositiveException;
 import com.example.catalog.Exceptions.RestaurantNotFoundException;
+import com.example.catalog.concurrent.SingleFlight;
+import com.example.catalog.config.CacheConfig;
+import com.example.catalog.datasource.ReadYourWrites;
+import com.example.catalog.event.MenuItemAddedEvent;
 import com.example.catalog.model.MenuItem;
 import com.example.catalog.model.Restaurant;
+import com.example.catalog.pricing.PriceFormat;
 import com.example.catalog.repository.MenuItemRepository;
 import com.example.catalog.repository.RestaurantRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class MenuItemService {
+    public static final int MAX_BULK_SIZE = 1000;
+    public static final int MAX_BATCH_GET_SIZE = 100;
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final Duration MENU_LOAD_WAIT_TIMEOUT = Duration.ofSeconds(5);
+
     private final MenuItemRepository menuItemRepository;
     private final RestaurantRepository restaurantRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTransaction;
+    private final SingleFlight<Long, List<MenuItemResponseDto>> menuLoads = new SingleFlight<>("menuItems", MENU_LOAD_WAIT_TIMEOUT);
 
     @Autowired
-    public MenuItemService(MenuItemRepository menuItemRepository, RestaurantRepository restaurantRepository) {
+    public MenuItemService(MenuItemRepository menuItemRepository, RestaurantRepository restaurantRepository,
+                           ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager) {
         this.menuItemRepository = menuItemRepository;
         this.restaurantRepository = restaurantRepository;
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // Caches are evicted after commit by CatalogCacheEvictor.
+    @Transactional
+    public void addMenuItem(Long restaurantId, String itemName, long priceMinor, String currency) {
+        Restaurant restaurant = findRestaurantById(restaurantId);
+        MenuItem menuItem = restaurant.addMenuItem(itemName, priceMinor, currency);
+        try {
+            menuItemRepository.saveAndFlush(menuItem);
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueConstraints.isViolated(e, MenuItem.UNIQUE_RESTAURANT_NAME)) {
+                throw new MenuItemAlreadyExistsException("Menu item '" + itemName + "' already exists for restaurant with ID '" + restaurantId + "'");
+            }
+            throw e;
+        }
+        restaurantRepository.recordMenuChange(restaurantId);
+        eventPublisher.publishEvent(new MenuItemAddedEvent(restaurantId, menuItem.getId(), itemName,
+                menuItem.getPriceMinor(), menuItem.getCurrency()));
     }
 
-    public void addMenuItem(Long restaurantId, String itemName, double price) {
+    // Caches are evicted after commit by CatalogCacheEvictor.
+    @Transactional
+    public BulkMenuItemImportResponse addMenuItems(Long restaurantId, List<MenuItemDto> menuItemDtos, boolean atomic) {
+        if (menuItemDtos.size() > MAX_BULK_SIZE) {
+            throw new BulkImportLimitExceededException("Bulk import accepts at most " + MAX_BULK_SIZE + " menu items");
+        }
         Restaurant restaurant = findRestaurantById(restaurantId);
-        if (menuItemRepository.findByNameAndRestaurantId(itemName, restaurantId).isPresent()) {
-            throw new MenuItemAlreadyExistsException("Menu item '" + itemName + "' already exists for restaurant with ID '" + restaurantId + "'");
+
+        Set<String> itemNames = menuItemDtos.stream()
+                .map(MenuItemDto::getName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> existingNames = itemNames.isEmpty()
+                ? Set.of()
+                : new HashSet<>(menuItemRepository.findExistingNames(restaurantId, itemNames));
+
+        List<BulkMenuItemResultDto> results = new ArrayList<>(menuItemDtos.size());
+        List<MenuItem> menuItems = new ArrayList<>(menuItemDtos.size());
+        Set<String> seenNames = new HashSet<>();
+        for (int index = 0; index < menuItemDtos.size(); index++) {
+            MenuItemDto menuItemDto = menuItemDtos.get(index);
+            String itemName = menuItemDto.getName();
+            if (itemName != null && (existingNames.contains(itemName) || !seenNames.add(itemName))) {
+                results.add(new BulkMenuItemResultDto(index, itemName, BulkMenuItemStatus.DUPLICATE,
+                        "Menu item '" + itemName + "' already exists for restaurant with ID '" + restaurantId + "'"));
+                continue;
+            }
+            try {
+                // Not added to restaurant.getMenuItems(): a rejected batch must not be cascaded on flush.
+                MenuItem menuItem = new MenuItem(itemName, menuItemDto.getPrice(), menuItemDto.getCurrency());
+                menuItem.setRestaurant(restaurant);
+                menuItems.add(menuItem);
+                results.add(new BulkMenuItemResultDto(index, itemName, BulkMenuItemStatus.CREATED, null));
+            } catch (MenuItemNameCannotBeNullOrEmptyException | PriceMustBePositiveException | InvalidCurrencyException e) {
+                results.add(new BulkMenuItemResultDto(index, itemName, BulkMenuItemStatus.INVALID, e.getMessage()));
+            }
+        }
+
+        if (atomic && menuItems.size() < menuItemDtos.size()) {
+            List<BulkMenuItemResultDto> rejectedResults = results.stream()
+                    .map(result -> result.getStatus() == BulkMenuItemStatus.CREATED
+                            ? new BulkMenuItemResultDto(result.getIndex(), result.getName(), BulkMenuItemStatus.SKIPPED, "Batch rejected")
+                            : result)
+                    .toList();
+            return new BulkMenuItemImportResponse(restaurantId, true, true, 0, rejectedResults);
+        }
+
+        if (!menuItems.isEmpty()) {
+            try {
+                menuItemRepository.saveAllAndFlush(menuItems);
+            } catch (DataIntegrityViolationException e) {
+                // A concurrent writer added one of these names after the duplicate check above.
+                if (UniqueConstraints.isViolated(e, MenuItem.UNIQUE_RESTAURANT_NAME)) {
+                    throw new MenuItemAlreadyExistsException("One or more menu items already exist for restaurant with ID '" + restaurantId + "'");
+                }
+                throw e;
+            }
+            restaurantRepository.recordMenuChange(restaurantId);
+            menuItems.forEach(menuItem -> eventPublisher.publishEvent(
+                    new MenuItemAddedEvent(restaurantId, menuItem.getId(), menuItem.getName(),
+                            menuItem.getPriceMinor(), menuItem.getCurrency())));
+        }
+        return new BulkMenuItemImportResponse(restaurantId, atomic, false, menuItems.size(), results);
+    }
+
+    // Cache misses for the same restaurant share one load. The transaction is opened inside the shared
+    // load, so callers waiting on it do not each hold a pooled connection. A read-your-writes caller loads
+    // on its own: a shared load runs on the leader's thread and may be routed to a replica.
+    @Cacheable(cacheNames = CacheConfig.MENU_ITEMS, key = "#restaurantId", condition = CacheConfig.OUTSIDE_READ_YOUR_WRITES)
+    public List<MenuItemResponseDto> getAllMenuItems(Long restaurantId) {
+        if (ReadYourWrites.isActive()) {
+            return loadMenuItems(restaurantId);
         }
+        return menuLoads.execute(restaurantId, () -> loadMenuItems(restaurantId));
+    }
 
-        MenuItem menuItem = restaurant.addMenuItem(itemName, price);
-        menuItemRepository.save(menuItem);
+    private List<MenuItemResponseDto> loadMenuItems(Long restaurantId) {
+        return readOnlyTransaction.execute(status -> {
+            findRestaurantById(restaurantId);
+            return menuItemRepository.findByRestaurantId(restaurantId);
+        });
     }
 
-    public List<MenuItem> getAllMenuItems(Long restaurantId) {
+    /**
+     * Menus for several restaurants with one query for the restaurants and one for their items, keyed by
+     * restaurant ID in request order. Unknown restaurants get a NOT_FOUND entry rather than failing the batch.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, MenuBatchResultDto> getMenuItemsForRestaurants(List<Long> restaurantIds) {
+        if (restaurantIds.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidBatchGetRequestException("Restaurant IDs cannot be null");
+        }
+        Set<Long> requestedIds = new LinkedHashSet<>(restaurantIds);
+        if (requestedIds.size() > MAX_BATCH_GET_SIZE) {
+            throw new InvalidBatchGetRequestException("Batch get accepts at most " + MAX_BATCH_GET_SIZE + " restaurant IDs");
+        }
+        if (requestedIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<Long> existingIds = new HashSet<>(restaurantRepository.findExistingIds(requestedIds));
+        Map<Long, List<MenuItemResponseDto>> menuItemsByRestaurant = existingIds.isEmpty()
+                ? Map.of()
+                : menuItemRepository.findByRestaurantIdIn(existingIds).stream()
+                        .collect(Collectors.groupingBy(MenuItemResponseDto::getRestaurantId));
+
+        Map<Long, MenuBatchResultDto> results = new LinkedHashMap<>();
+        for (Long restaurantId : requestedIds) {
+            results.put(restaurantId, existingIds.contains(restaurantId)
+                    ? new MenuBatchResultDto(MenuBatchStatus.FOUND, menuItemsByRestaurant.getOrDefault(restaurantId, List.of()), null)
+                    : new MenuBatchResultDto(MenuBatchStatus.NOT_FOUND, List.of(), "Restaurant with ID '" + restaurantId + "' not found"));
+        }
+        return results;
+    }
+
+    /**
+     * A filtered, sorted page of a menu. Prices are decimals as in the JSON body and either bound may be
+     * omitted; the cursor is the {@code nextCursor} of the previous page and is only valid for the same sort.
+     */
+    @Transactional(readOnly = true)
+    public MenuItemPage getMenuItemsPage(Long restaurantId, String minPrice, String maxPrice, String sort, Integer limit, String cursor) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new InvalidPageRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        MenuItemSort menuItemSort = sort == null ? MenuItemSort.ID : MenuItemSort.fromParameter(sort);
+        if (menuItemSort == null) {
+            throw new InvalidPageRequestException("Sort must be one of id, price or -price");
+        }
+        long min = minPrice == null ? Long.MIN_VALUE : parsePrice(minPrice, "minPrice");
+        long max = maxPrice == null ? Long.MAX_VALUE : parsePrice(maxPrice, "maxPrice");
+        if (min > max) {
+            throw new InvalidPageRequestException("minPrice cannot be greater than maxPrice");
+        }
+        long[] position = cursor == null ? null : decodeCursor(cursor, menuItemSort);
         findRestaurantById(restaurantId);
-        return menuItemRepository.findByRestaurantId(restaurantId);
+
+        // One extra row tells us whether another page exists without a count query.
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        List<MenuItemResponseDto> rows = switch (menuItemSort) {
+            case ID -> menuItemRepository.findPageById(restaurantId, min, max,
+                    position == null ? Long.MIN_VALUE : position[1], page);
+            case PRICE_ASC -> menuItemRepository.findPageByPriceAsc(restaurantId, min, max,
+                    position == null ? Long.MIN_VALUE : position[0], position == null ? Long.MIN_VALUE : position[1], page);
+            case PRICE_DESC -> menuItemRepository.findPageByPriceDesc(restaurantId, min, max,
+                    position == null ? Long.MAX_VALUE : position[0], position == null ? Long.MAX_VALUE : position[1], page);
+        };
+        if (rows.size() <= pageSize) {
+            return new MenuItemPage(rows, null);
+        }
+        List<MenuItemResponseDto> menuItems = rows.subList(0, pageSize);
+        MenuItemResponseDto last = menuItems.get(pageSize - 1);
+        return new MenuItemPage(menuItems, encodeCursor(menuItemSort, last.getPrice(), last.getId()));
     }
 
-    public MenuItem getMenuItemById(Long menuItemId, Long restaurantId) {
+    @Cacheable(cacheNames = CacheConfig.MENU_ITEM, condition = CacheConfig.OUTSIDE_READ_YOUR_WRITES)
+    @Transactional(readOnly = true)
+    public MenuItemResponseDto getMenuItemById(Long menuItemId, Long restaurantId) {
         findRestaurantById(restaurantId);
         return menuItemRepository.findByIdAndRestaurantId(menuItemId, restaurantId)
                 .orElseThrow(() -> new MenuItemNotFoundException("Menu item with ID '" + menuItemId + "' not found for restaurant with ID '" + restaurantId + "'"));
     }
 
+    @Transactional(readOnly = true)
+    public void streamMenuItems(Consumer<MenuItemResponseDto> consumer) {
+        try (Stream<MenuItemResponseDto> menuItems = menuItemRepository.streamAllResponses()) {
+            menuItems.forEach(consumer);
+        }
+    }
+
+    @Cacheable(cacheNames = CacheConfig.RESTAURANT_VERSIONS, key = "#restaurantId", condition = CacheConfig.OUTSIDE_READ_YOUR_WRITES)
+    @Transactional(readOnly = true)
+    public RestaurantVersionDto getMenuVersion(Long restaurantId) {
+        return restaurantRepository.findVersionById(restaurantId)
+                .orElseThrow(() -> new RestaurantNotFoundException("Restaurant with ID '" + restaurantId + "' not found"));
+    }
+
+    // Price filters are in the default currency; the filter compares minor units as stored.
+    private static long parsePrice(String price, String parameter) {
+        int fractionDigits = PriceFormat.fractionDigits(MenuItem.DEFAULT_CURRENCY);
+        try {
+            return PriceFormat.parse(price.toCharArray(), 0, price.length(), fractionDigits);
+        } catch (NumberFormatException e) {
+            throw new InvalidPageRequestException(parameter + " must be a decimal number with at most " + fractionDigits + " fraction digits");
+        }
+    }
+
+    // Opaque to clients so the keyset columns can change without breaking them.
+    private static String encodeCursor(MenuItemSort sort, long price, long id) {
+        String position = sort.getParameter() + ":" + price + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long[] decodeCursor(String cursor, MenuItemSort sort) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length == 3 && parts[0].equals(sort.getParameter())) {
+                return new long[] {Long.parseLong(parts[1]), Long.parseLong(parts[2])};
+            }
+        } catch (IllegalArgumentException e) {
+            // Falls through: malformed Base64 and numbers are both IllegalArgumentExceptions.
+        }
+        throw new InvalidPageRequestException("Invalid cursor for sort '" + sort.getParameter() + "'");
+    }
+
     private Restaurant findRestaurantById(Long restaurantId) {
         return restaurantRepository.findById(restaurantId)
                 .orElseThrow(() -> new RestaurantNotFoundException("Restaurant with ID '" + restaurantId + "' not found"));
@@ -1,38 +1,133 @@
 package com.example.catalog.service;
 
+import com.example.catalog.Dto.MenuItemResponseDto;
+import com.example.catalog.Dto.RestaurantPage;
+import com.example.catalog.Dto.RestaurantResponseDto;
+import com.example.catalog.Dto.RestaurantSummaryDto;
+import com.example.catalog.Dto.RestaurantVersionDto;
+import com.example.catalog.Exceptions.InvalidPageRequestException;
 import com.example.catalog.Exceptions.RestaurantAlreadyExistsException;
 import com.example.catalog.Exceptions.RestaurantNotFoundException;
+import com.example.catalog.config.CacheConfig;
+import com.example.catalog.event.RestaurantAddedEvent;
 import com.example.catalog.model.Restaurant;
+import com.example.catalog.repository.MenuItemRepository;
 import com.example.catalog.repository.RestaurantRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class RestaurantService {
     private final RestaurantRepository restaurantRepository;
+    private final MenuItemRepository menuItemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxPageSize;
+    private final int maxUnpagedResults;
 
     @Autowired
-    public RestaurantService(RestaurantRepository restaurantRepository) {
+    public RestaurantService(RestaurantRepository restaurantRepository, MenuItemRepository menuItemRepository, ApplicationEventPublisher eventPublisher,
+                             @Value("${catalog.restaurants.max-page-size:500}") int maxPageSize,
+                             @Value("${catalog.restaurants.max-unpaged-results:1000}") int maxUnpagedResults) {
         this.restaurantRepository = restaurantRepository;
+        this.menuItemRepository = menuItemRepository;
+        this.eventPublisher = eventPublisher;
+        this.maxPageSize = maxPageSize;
+        this.maxUnpagedResults = maxUnpagedResults;
     }
 
-    public void addRestaurant(String name, String address) {
-        if (restaurantRepository.findByNameAndAddress(name, address).isPresent()) {
-            throw new RestaurantAlreadyExistsException("Restaurant with name '" + name + "' and address '" + address + "' already exists");
-        }
+    public int getMaxPageSize() {
+        return maxPageSize;
+    }
 
+    // Caches are evicted after commit by CatalogCacheEvictor.
+    @Transactional
+    public Restaurant addRestaurant(String name, String address) {
         Restaurant restaurant = new Restaurant(name, address);
-        restaurantRepository.save(restaurant);
+        Restaurant savedRestaurant;
+        try {
+            savedRestaurant = restaurantRepository.saveAndFlush(restaurant);
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueConstraints.isViolated(e, Restaurant.UNIQUE_NAME_ADDRESS)) {
+                throw new RestaurantAlreadyExistsException("Restaurant with name '" + name + "' and address '" + address + "' already exists");
+            }
+            throw e;
+        }
+        restaurantRepository.createMenuVersion(savedRestaurant.getId());
+        eventPublisher.publishEvent(new RestaurantAddedEvent(savedRestaurant.getId(), name, address));
+        return savedRestaurant;
+    }
+
+    // The unpaged listing is capped; the cursor is set when restaurants beyond the cap exist.
+    @Transactional(readOnly = true)
+    public RestaurantPage getAllRestaurants() {
+        return page(null, maxUnpagedResults);
+    }
+
+    @Transactional(readOnly = true)
+    public RestaurantPage getRestaurantsPage(Long after, int limit) {
+        if (limit < 1 || limit > maxPageSize) {
+            throw new InvalidPageRequestException("Page size must be between 1 and " + maxPageSize);
+        }
+        return page(after, limit);
+    }
+
+    private RestaurantPage page(Long after, int limit) {
+        // One extra row tells us whether another page exists without a count query.
+        List<RestaurantSummaryDto> rows = restaurantRepository.findSummaryPageAfter(after == null ? 0L : after, PageRequest.of(0, limit + 1));
+        List<RestaurantSummaryDto> summaries = rows.size() > limit ? rows.subList(0, limit) : rows;
+        if (summaries.isEmpty()) {
+            return new RestaurantPage(List.of(), null);
+        }
+
+        List<Long> restaurantIds = summaries.stream().map(RestaurantSummaryDto::getId).toList();
+        List<RestaurantResponseDto> restaurants = withMenuItems(summaries, menuItemRepository.findByRestaurantIdIn(restaurantIds));
+        Long nextCursor = rows.size() > limit ? restaurantIds.get(limit - 1) : null;
+        return new RestaurantPage(restaurants, nextCursor);
     }
 
-    public List<Restaurant> getAllRestaurants() {
-        return restaurantRepository.findAll();
+    @Transactional(readOnly = true)
+    public void streamRestaurants(Consumer<RestaurantSummaryDto> consumer) {
+        try (Stream<RestaurantSummaryDto> restaurants = restaurantRepository.streamAllSummaries()) {
+            restaurants.forEach(consumer);
+        }
     }
 
-    public Restaurant getRestaurantById(Long restaurantId) {
-        return restaurantRepository.findById(restaurantId)
+    @Cacheable(cacheNames = CacheConfig.RESTAURANTS, condition = CacheConfig.OUTSIDE_READ_YOUR_WRITES)
+    @Transactional(readOnly = true)
+    public RestaurantResponseDto getRestaurantById(Long restaurantId) {
+        RestaurantSummaryDto restaurant = restaurantRepository.findSummaryById(restaurantId)
                 .orElseThrow(() -> new RestaurantNotFoundException("Restaurant with id '" + restaurantId + "' not found"));
+        return withMenuItems(List.of(restaurant), menuItemRepository.findByRestaurantId(restaurantId)).get(0);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.RESTAURANT_VERSIONS, key = "#restaurantId", condition = CacheConfig.OUTSIDE_READ_YOUR_WRITES)
+    @Transactional(readOnly = true)
+    public RestaurantVersionDto getRestaurantVersion(Long restaurantId) {
+        return restaurantRepository.findVersionById(restaurantId)
+                .orElseThrow(() -> new RestaurantNotFoundException("Restaurant with id '" + restaurantId + "' not found"));
+    }
+
+    private List<RestaurantResponseDto> withMenuItems(List<RestaurantSummaryDto> restaurants, List<MenuItemResponseDto> menuItems) {
+        Map<Long, List<MenuItemResponseDto>> menuItemsByRestaurant = menuItems.stream()
+                .collect(Collectors.groupingBy(MenuItemResponseDto::getRestaurantId));
+        return restaurants.stream()
+                .map(restaurant -> new RestaurantResponseDto(
+                        restaurant.getId(),
+                        restaurant.getName(),
+                        restaurant.getAddress(),
+                        menuItemsByRestaurant.getOrDefault(restaurant.getId(), List.of())))
+                .toList();
     }
 }
@@ -0,0 +1,21 @@
+package com.example.catalog.service;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+final class UniqueConstraints {
+
+    private UniqueConstraints() {}
+
+    // Postgres reports the bare constraint name, H2 wraps it in schema and index details.
+    static boolean isViolated(DataIntegrityViolationException e, String constraintName) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraintName);
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.catalog.snapshot;
+
+import com.example.catalog.Dto.MenuItemResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A restaurant's menu as it is sent on the wire, serialized and compressed once per menu version.
+ */
+@Getter
+@AllArgsConstructor
+public class MenuSnapshot {
+    private long version;
+    private byte[] json;
+    private byte[] gzip;
+
+    public static MenuSnapshot of(long version, List<MenuItemResponseDto> menuItems, ObjectMapper objectMapper) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(menuItems);
+            return new MenuSnapshot(version, json, gzip(json));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int sizeInBytes() {
+        return json.length + gzip.length;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(bytes.length / 4, 64));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
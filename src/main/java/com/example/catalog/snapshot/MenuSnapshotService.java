@@ -0,0 +1,109 @@
+package com.example.catalog.snapshot;
+
+import com.example.catalog.Dto.RestaurantVersionDto;
+import com.example.catalog.Exceptions.RestaurantNotFoundException;
+import com.example.catalog.datasource.ReadYourWrites;
+import com.example.catalog.event.MenuItemAddedEvent;
+import com.example.catalog.repository.MenuItemRepository;
+import com.example.catalog.repository.RestaurantRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Keeps pre-serialized, pre-compressed menus in memory, bounded by total bytes. A snapshot is only
+ * served for the menu version it was built from; menu changes trigger an asynchronous rebuild after
+ * commit, and a request that finds no matching snapshot builds one the same way.
+ */
+@Service
+public class MenuSnapshotService {
+    private final MenuItemRepository menuItemRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final TransactionOperations transactionOperations;
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final Cache<Long, MenuSnapshot> snapshots;
+    private final Set<Long> pendingRebuilds = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public MenuSnapshotService(MenuItemRepository menuItemRepository,
+                               RestaurantRepository restaurantRepository,
+                               TransactionOperations transactionOperations,
+                               ObjectMapper objectMapper,
+                               @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor,
+                               @Value("${catalog.menu-snapshots.maximum-weight:67108864}") long maximumWeightBytes,
+                               @Value("${catalog.menu-snapshots.expire-after-write:5m}") Duration expireAfterWrite) {
+        this.menuItemRepository = menuItemRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.transactionOperations = transactionOperations;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .weigher((Long restaurantId, MenuSnapshot snapshot) -> snapshot.sizeInBytes())
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    public MenuSnapshot getSnapshot(Long restaurantId, RestaurantVersionDto version) {
+        // Within a client's read-your-writes window the menu is read from the primary and kept out of the cache.
+        boolean cached = !ReadYourWrites.isActive();
+        MenuSnapshot snapshot = cached ? snapshots.getIfPresent(restaurantId) : null;
+        if (snapshot != null && snapshot.getVersion() == version.getVersion()) {
+            return snapshot;
+        }
+        // Not built from the cached menu: it is cached separately from the version and the two can disagree.
+        // The snapshot may come out newer than the requested version, never older.
+        snapshot = load(restaurantId);
+        if (snapshot == null) {
+            throw new RestaurantNotFoundException("Restaurant with ID '" + restaurantId + "' not found");
+        }
+        if (cached) {
+            store(restaurantId, snapshot);
+        }
+        return snapshot;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuItemAdded(MenuItemAddedEvent event) {
+        Long restaurantId = event.getRestaurantId();
+        // A bulk import publishes one event per item; one pending rebuild per restaurant is enough.
+        if (pendingRebuilds.add(restaurantId)) {
+            executor.execute(() -> rebuild(restaurantId));
+        }
+    }
+
+    private void rebuild(Long restaurantId) {
+        pendingRebuilds.remove(restaurantId);
+        MenuSnapshot snapshot = load(restaurantId);
+        if (snapshot != null) {
+            store(restaurantId, snapshot);
+        }
+    }
+
+    private MenuSnapshot load(Long restaurantId) {
+        // Read-write transaction so it runs on the primary. The version is read before the items: if a
+        // write lands in between, the snapshot is labelled with the older version and is never served
+        // for the newer one.
+        return transactionOperations.execute(status -> restaurantRepository.findVersionById(restaurantId)
+                .map(version -> MenuSnapshot.of(version.getVersion(), menuItemRepository.findByRestaurantId(restaurantId), objectMapper))
+                .orElse(null));
+    }
+
+    private void store(Long restaurantId, MenuSnapshot snapshot) {
+        snapshots.asMap().merge(restaurantId, snapshot,
+                (current, candidate) -> candidate.getVersion() >= current.getVersion() ? candidate : current);
+    }
+}
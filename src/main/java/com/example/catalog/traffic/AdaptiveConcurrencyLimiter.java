@@ -0,0 +1,100 @@
+package com.example.catalog.traffic;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps concurrent requests at a limit that follows latency (additive increase, multiplicative decrease).
+ * Latency is averaged over windows of completed requests and compared with a long-window baseline, a
+ * moving average over roughly the last twenty windows, so a window of mostly cache hits or mostly database
+ * reads barely moves it. When queueing in the pool or in Postgres pushes the average past the tolerance,
+ * or requests fail, the limit shrinks; while requests are being rejected and latency is healthy, it
+ * grows by one per window. Work beyond the limit is refused immediately instead of joining the queue.
+ */
+public class AdaptiveConcurrencyLimiter {
+    // Weight of each window in the baseline; sustained overload still shrinks the limit for about ten windows
+    // before the baseline catches up with it.
+    static final double BASELINE_SMOOTHING = 0.05;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final double backoffRatio;
+    private final int windowSize;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger windowCount = new AtomicInteger();
+    private final LongAdder windowLatencyNanos = new LongAdder();
+    private final LongAdder windowFailures = new LongAdder();
+    private final LongAdder windowRejections = new LongAdder();
+    private volatile int limit;
+    private volatile double baselineNanos = Double.NaN;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      double latencyTolerance, double backoffRatio, int windowSize) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.backoffRatio = backoffRatio;
+        this.windowSize = windowSize;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                windowRejections.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a slot and feeds the request's latency into the current window.
+     *
+     * @param failed whether the request failed in a way that suggests overload (5xx)
+     */
+    public void release(long latencyNanos, boolean failed) {
+        inFlight.decrementAndGet();
+        windowLatencyNanos.add(latencyNanos);
+        if (failed) {
+            windowFailures.increment();
+        }
+        if (windowCount.incrementAndGet() % windowSize == 0) {
+            adjust();
+        }
+    }
+
+    // Releases a slot without a sample, for requests whose latency says nothing about load.
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    // Called by the one thread that completes a window; concurrent samples land in the next window.
+    private synchronized void adjust() {
+        double average = (double) windowLatencyNanos.sumThenReset() / windowSize;
+        long failures = windowFailures.sumThenReset();
+        long rejections = windowRejections.sumThenReset();
+
+        double baseline = Double.isNaN(baselineNanos) ? average : baselineNanos;
+        baselineNanos = baseline + (average - baseline) * BASELINE_SMOOTHING;
+
+        if (failures > 0 || average > baseline * latencyTolerance) {
+            limit = Math.max(minLimit, (int) (limit * backoffRatio));
+        } else if (rejections > 0) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+}
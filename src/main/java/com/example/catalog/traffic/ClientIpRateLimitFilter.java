@@ -0,0 +1,38 @@
+package com.example.catalog.traffic;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Limits every catalog request per client IP before basic authentication runs. Bad credentials are answered
+ * 401 by basic authentication and never reach {@link RateLimitFilter}, and each one costs a BCrypt check
+ * that the credential cache does not absorb, so they are limited here.
+ */
+public class ClientIpRateLimitFilter extends OncePerRequestFilter {
+    private final TokenBucketRateLimiter clientIpLimiter;
+
+    public ClientIpRateLimitFilter(TokenBucketRateLimiter clientIpLimiter) {
+        this.clientIpLimiter = clientIpLimiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/catalog/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long waitNanos = clientIpLimiter.tryAcquire(request.getRemoteAddr());
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        RateLimitFilter.reject(response, waitNanos, "client_ip");
+    }
+}
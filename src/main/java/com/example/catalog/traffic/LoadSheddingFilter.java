@@ -0,0 +1,102 @@
+package com.example.catalog.traffic;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.function.LongSupplier;
+
+/**
+ * Answers 503 with Retry-After once the adaptive concurrency limit is reached, so excess load is turned
+ * away in microseconds instead of queueing for a database connection. Async requests keep their slot
+ * until the response completes, since the work is still running after the handler returns. The event
+ * stream is exempt: its requests stay open for as long as the client listens.
+ */
+public class LoadSheddingFilter extends OncePerRequestFilter {
+    public static final String REJECTED_METRIC = "catalog.loadshedding.rejected";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final LongSupplier nanoClock;
+
+    public LoadSheddingFilter(AdaptiveConcurrencyLimiter limiter, LongSupplier nanoClock) {
+        this.limiter = limiter;
+        this.nanoClock = nanoClock;
+        Gauge.builder("catalog.loadshedding.limit", limiter, AdaptiveConcurrencyLimiter::getLimit).register(Metrics.globalRegistry);
+        Gauge.builder("catalog.loadshedding.in_flight", limiter, AdaptiveConcurrencyLimiter::getInFlight).register(Metrics.globalRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !uri.startsWith("/catalog/") || uri.startsWith("/catalog/events");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!limiter.tryAcquire()) {
+            Metrics.counter(REJECTED_METRIC).increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.getWriter().write("Service Unavailable: Server is overloaded, retry shortly");
+            return;
+        }
+
+        long start = nanoClock.getAsLong();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(response, start));
+            } else {
+                limiter.release(nanoClock.getAsLong() - start, failed);
+            }
+        }
+    }
+
+    // Releases the slot of an async request once its response is complete, with the full latency.
+    private class ReleaseOnCompletion implements AsyncListener {
+        private final HttpServletResponse response;
+        private final long start;
+        private volatile boolean failed;
+
+        ReleaseOnCompletion(HttpServletResponse response, long start) {
+            this.response = response;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limiter.release(nanoClock.getAsLong() - start, failed || response.getStatus() >= 500);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Listeners are dropped when async processing is restarted; stay registered until completion.
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.catalog.traffic;
+
+import io.micrometer.core.instrument.Metrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rejects catalog requests over the caller's rate with 429 and a Retry-After header. Runs after basic
+ * authentication so authenticated callers are limited per principal; everyone else is limited per client
+ * IP as seen by the servlet container (behind a proxy, enable server.forward-headers-strategy). Requests
+ * with bad credentials never get here; {@link ClientIpRateLimitFilter} limits them before authentication.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+    public static final String REJECTED_METRIC = "catalog.ratelimit.rejected";
+
+    private final TokenBucketRateLimiter anonymousLimiter;
+    private final TokenBucketRateLimiter authenticatedLimiter;
+
+    public RateLimitFilter(TokenBucketRateLimiter anonymousLimiter, TokenBucketRateLimiter authenticatedLimiter) {
+        this.anonymousLimiter = anonymousLimiter;
+        this.authenticatedLimiter = authenticatedLimiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/catalog/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean authenticated = authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+        long waitNanos = authenticated
+                ? authenticatedLimiter.tryAcquire(authentication.getName())
+                : anonymousLimiter.tryAcquire(request.getRemoteAddr());
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        reject(response, waitNanos, authenticated ? "principal" : "ip");
+    }
+
+    static void reject(HttpServletResponse response, long waitNanos, String client) throws IOException {
+        Metrics.counter(REJECTED_METRIC, "client", client).increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write("Too Many Requests: Rate limit exceeded");
+    }
+}
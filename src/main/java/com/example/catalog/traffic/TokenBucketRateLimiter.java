@@ -0,0 +1,56 @@
+package com.example.catalog.traffic;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket per key, kept as a single theoretical arrival time (the generic cell rate algorithm), so
+ * taking a token is one compare-and-set on that key's AtomicLong and keys never contend with each other.
+ * Buckets live in a bounded Caffeine map and are dropped after sitting idle.
+ */
+public class TokenBucketRateLimiter {
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final LongSupplier nanoClock;
+    private final Cache<String, AtomicLong> buckets;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst, long maxKeys, Duration idleExpiry, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleExpiry)
+                .build();
+    }
+
+    /**
+     * @return 0 when a token was taken, otherwise how long until the next one is available
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong arrival = buckets.get(key, k -> new AtomicLong(now));
+        while (true) {
+            long current = arrival.get();
+            long start = current - now > 0 ? current : now;
+            long wait = start - now - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrival.compareAndSet(current, start + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    public long trackedKeys() {
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,26 @@
+-- Baseline of the schema previously generated by ddl-auto=update. Every statement is idempotent so
+-- it applies cleanly both to an empty database and to one that Hibernate already created.
+
+CREATE TABLE IF NOT EXISTS restaurants (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name          VARCHAR(255),
+    address       VARCHAR(255),
+    version       BIGINT DEFAULT 0 NOT NULL,
+    last_modified TIMESTAMP(6) WITH TIME ZONE
+);
+
+ALTER TABLE restaurants ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE restaurants ADD COLUMN IF NOT EXISTS last_modified TIMESTAMP(6) WITH TIME ZONE;
+
+CREATE TABLE IF NOT EXISTS menu_items (
+    id            BIGINT PRIMARY KEY,
+    name          VARCHAR(255),
+    price         FLOAT(53) NOT NULL,
+    restaurant_id BIGINT NOT NULL REFERENCES restaurants (id)
+);
+
+CREATE SEQUENCE IF NOT EXISTS menu_items_seq START WITH 1 INCREMENT BY 50;
+
+-- Pooled ids are handed out below the sequence value, so keep it clear of rows written before the
+-- sequence existed.
+SELECT setval('menu_items_seq', (SELECT COALESCE(MAX(id), 0) FROM menu_items) + 50);
@@ -0,0 +1,51 @@
+-- Enforce uniqueness in the database so inserts no longer need a lookup first. The unique indexes
+-- also serve findByRestaurantId (leading restaurant_id column) and name/address lookups.
+
+-- Databases created by ddl-auto=update had no such constraints and may hold duplicates. They are not
+-- merged here: menu items hang off restaurants, and which copy to keep is a business decision. Instead
+-- the migration stops with the offending keys (first 100 of each) in the error detail. The same queries
+-- can be run as a pre-flight check before deploying:
+--   SELECT name, address, array_agg(id ORDER BY id) FROM restaurants
+--    WHERE name IS NOT NULL AND address IS NOT NULL GROUP BY name, address HAVING count(*) > 1;
+--   SELECT restaurant_id, name, array_agg(id ORDER BY id) FROM menu_items
+--    WHERE name IS NOT NULL GROUP BY restaurant_id, name HAVING count(*) > 1;
+-- NULLs never conflict under a unique constraint, so they are left out.
+DO $$
+DECLARE
+    duplicates TEXT;
+BEGIN
+    SELECT string_agg(format('name=%L address=%L ids=%s', name, address, ids), E'\n')
+    INTO duplicates
+    FROM (SELECT name, address, array_agg(id ORDER BY id) AS ids
+          FROM restaurants
+          WHERE name IS NOT NULL AND address IS NOT NULL
+          GROUP BY name, address
+          HAVING count(*) > 1
+          ORDER BY name, address
+          LIMIT 100) d;
+    IF duplicates IS NOT NULL THEN
+        RAISE EXCEPTION 'restaurants has duplicate (name, address) rows; merge them before applying V2'
+            USING DETAIL = duplicates;
+    END IF;
+
+    SELECT string_agg(format('restaurant_id=%s name=%L ids=%s', restaurant_id, name, ids), E'\n')
+    INTO duplicates
+    FROM (SELECT restaurant_id, name, array_agg(id ORDER BY id) AS ids
+          FROM menu_items
+          WHERE name IS NOT NULL
+          GROUP BY restaurant_id, name
+          HAVING count(*) > 1
+          ORDER BY restaurant_id, name
+          LIMIT 100) d;
+    IF duplicates IS NOT NULL THEN
+        RAISE EXCEPTION 'menu_items has duplicate (restaurant_id, name) rows; merge them before applying V2'
+            USING DETAIL = duplicates;
+    END IF;
+END
+$$;
+
+ALTER TABLE restaurants
+    ADD CONSTRAINT uk_restaurants_name_address UNIQUE (name, address);
+
+ALTER TABLE menu_items
+    ADD CONSTRAINT uk_menu_items_restaurant_id_name UNIQUE (restaurant_id, name);
@@ -0,0 +1,24 @@
+-- Transactional outbox of catalog changes. Rows are written in the same transaction as the change;
+-- the publisher later assigns gap-free, strictly increasing offsets that consumers resume from.
+
+CREATE SEQUENCE catalog_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE catalog_outbox (
+    id            BIGINT PRIMARY KEY,
+    event_type    VARCHAR(50)                 NOT NULL,
+    restaurant_id BIGINT                      NOT NULL,
+    payload       VARCHAR(4000)               NOT NULL,
+    created_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    event_offset  BIGINT
+);
+
+CREATE UNIQUE INDEX ux_catalog_outbox_event_offset ON catalog_outbox (event_offset);
+CREATE INDEX ix_catalog_outbox_unpublished ON catalog_outbox (id) WHERE event_offset IS NULL;
+
+-- Single row locked by the publisher; serializes offset assignment across instances.
+CREATE TABLE catalog_outbox_cursor (
+    id          INTEGER PRIMARY KEY,
+    last_offset BIGINT NOT NULL
+);
+
+INSERT INTO catalog_outbox_cursor (id, last_offset) VALUES (1, 0);
@@ -0,0 +1,14 @@
+-- Prices move from FLOAT to whole minor units (hundredths) plus an ISO 4217 currency code. Existing
+-- prices are rounded through NUMERIC so values such as 2.99 do not truncate to 298.
+
+ALTER TABLE menu_items ADD COLUMN price_minor BIGINT;
+ALTER TABLE menu_items ADD COLUMN currency VARCHAR(3);
+
+UPDATE menu_items
+SET price_minor = CAST(ROUND(CAST(price AS NUMERIC) * 100) AS BIGINT),
+    currency    = 'INR';
+
+ALTER TABLE menu_items ALTER COLUMN price_minor SET NOT NULL;
+ALTER TABLE menu_items ALTER COLUMN currency SET NOT NULL;
+ALTER TABLE menu_items ADD CONSTRAINT ck_menu_items_price_minor_positive CHECK (price_minor > 0);
+ALTER TABLE menu_items DROP COLUMN price;
@@ -0,0 +1,4 @@
+-- Serves price-filtered and price-sorted menu pages: equality on restaurant_id, a range on
+-- price_minor, and id as the keyset tie-breaker so ORDER BY price_minor, id needs no sort step.
+
+CREATE INDEX IF NOT EXISTS idx_menu_items_restaurant_id_price_minor ON menu_items (restaurant_id, price_minor, id);
@@ -0,0 +1,80 @@
+-- Hash-partitioned successor of menu_items, keyed by restaurant_id so every per-restaurant query is pruned
+-- to a single partition. menu_items keeps serving traffic meanwhile: a trigger mirrors each change into
+-- the new table, MenuItemPartitionBackfill copies the existing rows in batches and, once enabled, swaps
+-- the two tables (catalog.partitioning.*).
+
+CREATE TABLE menu_items_partitioned (
+    id            BIGINT       NOT NULL,
+    name          VARCHAR(255),
+    restaurant_id BIGINT       NOT NULL REFERENCES restaurants (id),
+    price_minor   BIGINT       NOT NULL,
+    currency      VARCHAR(3)   NOT NULL,
+    -- Primary and unique keys of a partitioned table must contain the partition key.
+    CONSTRAINT pk_menu_items_partitioned PRIMARY KEY (restaurant_id, id),
+    CONSTRAINT uk_menu_items_partitioned_restaurant_id_name UNIQUE (restaurant_id, name),
+    CONSTRAINT ck_menu_items_partitioned_price_minor_positive CHECK (price_minor > 0)
+) PARTITION BY HASH (restaurant_id);
+
+CREATE INDEX idx_menu_items_partitioned_restaurant_id_price_minor ON menu_items_partitioned (restaurant_id, price_minor, id);
+-- Lookups by id alone cannot be pruned; this keeps them to one index probe per partition.
+CREATE INDEX idx_menu_items_partitioned_id ON menu_items_partitioned (id);
+
+DO $$
+DECLARE
+    partition_count CONSTANT INTEGER := 32;
+BEGIN
+    FOR i IN 0 .. partition_count - 1 LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF menu_items_partitioned FOR VALUES WITH (MODULUS %s, REMAINDER %s)',
+                       'menu_items_p' || lpad(i::TEXT, 2, '0'), partition_count, i);
+    END LOOP;
+END
+$$;
+
+-- Postgres reports a duplicate name under the partition's index, not the parent constraint. Keep the
+-- uk_menu_items_restaurant_id_name prefix the service matches on.
+DO $$
+DECLARE
+    child RECORD;
+BEGIN
+    FOR child IN
+        SELECT index_class.relname AS index_name, table_class.relname AS table_name
+        FROM pg_inherits
+        JOIN pg_class index_class ON index_class.oid = pg_inherits.inhrelid
+        JOIN pg_index ON pg_index.indexrelid = index_class.oid
+        JOIN pg_class table_class ON table_class.oid = pg_index.indrelid
+        WHERE pg_inherits.inhparent = 'uk_menu_items_partitioned_restaurant_id_name'::REGCLASS
+    LOOP
+        EXECUTE format('ALTER INDEX %I RENAME TO %I', child.index_name,
+                       'uk_menu_items_restaurant_id_name_' || substring(child.table_name FROM 'p[0-9]+$'));
+    END LOOP;
+END
+$$;
+
+CREATE FUNCTION menu_items_mirror() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        DELETE FROM menu_items_partitioned WHERE restaurant_id = OLD.restaurant_id AND id = OLD.id;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO menu_items_partitioned (id, name, restaurant_id, price_minor, currency)
+        VALUES (NEW.id, NEW.name, NEW.restaurant_id, NEW.price_minor, NEW.currency)
+        ON CONFLICT (restaurant_id, id) DO UPDATE
+            SET name = EXCLUDED.name, price_minor = EXCLUDED.price_minor, currency = EXCLUDED.currency;
+    END IF;
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_menu_items_mirror
+    AFTER INSERT OR UPDATE OR DELETE ON menu_items
+    FOR EACH ROW EXECUTE FUNCTION menu_items_mirror();
+
+-- Single row locked by the backfill; holds the last copied id so it resumes after restarts.
+CREATE TABLE menu_items_backfill (
+    id           INTEGER PRIMARY KEY,
+    last_id      BIGINT NOT NULL,
+    completed_at TIMESTAMP(6) WITH TIME ZONE,
+    cut_over_at  TIMESTAMP(6) WITH TIME ZONE
+);
+
+INSERT INTO menu_items_backfill (id, last_id) VALUES (1, 0);
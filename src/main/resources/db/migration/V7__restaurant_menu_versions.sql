@@ -0,0 +1,13 @@
+-- The menu version moves out of restaurants. It is bumped with a bulk update on every menu change, and a
+-- bulk update on restaurants cleared Hibernate's whole restaurant and restaurant-menu-items cache regions.
+-- restaurants.version and restaurants.last_modified are no longer mapped; they stay until no running
+-- instance of the previous release still reads them.
+
+CREATE TABLE restaurant_menu_versions (
+    restaurant_id BIGINT PRIMARY KEY REFERENCES restaurants (id),
+    version       BIGINT DEFAULT 0 NOT NULL,
+    last_modified TIMESTAMP(6) WITH TIME ZONE
+);
+
+INSERT INTO restaurant_menu_versions (restaurant_id, version, last_modified)
+SELECT id, version, COALESCE(last_modified, now()) FROM restaurants;
@@ -0,0 +1,42 @@
+package com.example.catalog.Exceptions;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler globalExceptionHandler = new GlobalExceptionHandler();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.removeRegistry(meterRegistry);
+    }
+
+    @Test
+    void testHandledExceptionsAreCountedByTypeAndStatus() {
+        globalExceptionHandler.handleRestaurantNotFound(new RestaurantNotFoundException("Restaurant with id '1' not found"));
+        globalExceptionHandler.handleRestaurantNotFound(new RestaurantNotFoundException("Restaurant with id '2' not found"));
+        ResponseEntity<String> response = globalExceptionHandler.handleMenuItemAlreadyExists(new MenuItemAlreadyExistsException("Menu item already exists"));
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("Conflict: Menu item already exists", response.getBody());
+        assertEquals(2.0, meterRegistry.get(GlobalExceptionHandler.EXCEPTIONS_METRIC)
+                .tags("exception", "RestaurantNotFoundException", "status", "404").counter().count());
+        assertEquals(1.0, meterRegistry.get(GlobalExceptionHandler.EXCEPTIONS_METRIC)
+                .tags("exception", "MenuItemAlreadyExistsException", "status", "409").counter().count());
+    }
+}
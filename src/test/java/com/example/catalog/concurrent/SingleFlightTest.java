@@ -0,0 +1,132 @@
+package com.example.catalog.concurrent;
+
+import com.example.catalog.Exceptions.RestaurantNotFoundException;
+import com.example.catalog.Exceptions.SingleFlightTimeoutException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+    private static final int CALLERS = 8;
+
+    private SimpleMeterRegistry registry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testConcurrentCallersShareOneLoad() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), registry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callConcurrently(() -> singleFlight.execute(1L, () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "menu";
+        }));
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("menu", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, registry.counter(SingleFlight.LOADS_METRIC, "name", "test").count());
+        assertEquals(CALLERS - 1, registry.counter(SingleFlight.COALESCED_METRIC, "name", "test").count());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void testLoaderFailureIsPropagatedToEveryCaller() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), registry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callConcurrently(() -> singleFlight.execute(999L, () -> {
+            await(release);
+            throw new RestaurantNotFoundException("Restaurant with ID '999' not found");
+        }));
+        release.countDown();
+
+        for (Future<String> result : results) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(RestaurantNotFoundException.class, exception.getCause());
+        }
+        // A failed load is not remembered; the next caller tries again.
+        assertEquals("menu", singleFlight.execute(999L, () -> "menu"));
+    }
+
+    @Test
+    void testWaitingCallerTimesOut() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofMillis(50), registry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+            started.countDown();
+            await(release);
+            return "menu";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(SingleFlightTimeoutException.class, () -> singleFlight.execute(1L, () -> "unused"));
+        release.countDown();
+
+        assertEquals("menu", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(1, registry.counter(SingleFlight.TIMEOUTS_METRIC, "name", "test").count());
+    }
+
+    @Test
+    void testDifferentKeysLoadIndependently() {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), registry);
+
+        assertEquals("1", singleFlight.execute(1L, () -> "1"));
+        assertEquals("2", singleFlight.execute(2L, () -> "2"));
+        assertEquals(2, registry.counter(SingleFlight.LOADS_METRIC, "name", "test").count());
+    }
+
+    // Starts every caller and returns once all but the leader are waiting on the shared load.
+    private List<Future<String>> callConcurrently(Callable<String> call) throws InterruptedException {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(call));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.counter(SingleFlight.COALESCED_METRIC, "name", "test").count() < CALLERS - 1
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        return results;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
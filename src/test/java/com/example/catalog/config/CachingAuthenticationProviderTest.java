@@ -0,0 +1,66 @@
+package com.example.catalog.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CachingAuthenticationProviderTest {
+
+    @Mock
+    private AuthenticationProvider delegate;
+
+    private CachingAuthenticationProvider cachingAuthenticationProvider;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        cachingAuthenticationProvider = new CachingAuthenticationProvider(delegate, Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    void testRepeatedCredentialsSkipTheDelegate() {
+        Authentication authenticated = UsernamePasswordAuthenticationToken.authenticated("admin", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+        when(delegate.authenticate(any())).thenReturn(authenticated);
+
+        cachingAuthenticationProvider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "password"));
+        Authentication result = cachingAuthenticationProvider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "password"));
+
+        assertSame(authenticated, result);
+        verify(delegate, times(1)).authenticate(any());
+    }
+
+    @Test
+    void testDifferentPasswordIsVerifiedAgain() {
+        Authentication authenticated = UsernamePasswordAuthenticationToken.authenticated("admin", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+        when(delegate.authenticate(any())).thenReturn(authenticated);
+
+        cachingAuthenticationProvider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "password"));
+        cachingAuthenticationProvider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "other"));
+
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void testFailedAuthenticationIsNotCached() {
+        when(delegate.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+
+        assertThrows(BadCredentialsException.class, () ->
+                cachingAuthenticationProvider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "wrong")));
+        assertThrows(BadCredentialsException.class, () ->
+                cachingAuthenticationProvider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "wrong")));
+
+        verify(delegate, times(2)).authenticate(any());
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.catalog.config;
+
+import com.example.catalog.Exceptions.UserNotAuthorizedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ConfiguredUserDetailsServiceTest {
+
+    @Test
+    void testPlainPasswordsAreHashedOnceAtStartup() {
+        PasswordEncoder passwordEncoder = spy(new BCryptPasswordEncoder());
+        ConfiguredUserDetailsService userDetailsService = new ConfiguredUserDetailsService(List.of(credentials("admin", "password")), passwordEncoder);
+
+        UserDetails first = userDetailsService.loadUserByUsername("admin");
+        UserDetails second = userDetailsService.loadUserByUsername("admin");
+
+        assertTrue(passwordEncoder.matches("password", first.getPassword()));
+        assertEquals(first.getPassword(), second.getPassword());
+        assertEquals("ROLE_ADMIN", first.getAuthorities().iterator().next().getAuthority());
+        verify(passwordEncoder, times(1)).encode(anyString());
+    }
+
+    @Test
+    void testBcryptHashesAreUsedAsIs() {
+        PasswordEncoder passwordEncoder = spy(new BCryptPasswordEncoder());
+        String hash = new BCryptPasswordEncoder().encode("password");
+        ConfiguredUserDetailsService userDetailsService = new ConfiguredUserDetailsService(List.of(credentials("admin", hash)), passwordEncoder);
+
+        assertEquals(hash, userDetailsService.loadUserByUsername("admin").getPassword());
+        verify(passwordEncoder, never()).encode(anyString());
+    }
+
+    @Test
+    void testUnknownUserIsNotAuthorized() {
+        ConfiguredUserDetailsService userDetailsService = new ConfiguredUserDetailsService(List.of(credentials("admin", "password")), new BCryptPasswordEncoder());
+
+        UserNotAuthorizedException exception = assertThrows(UserNotAuthorizedException.class, () ->
+                userDetailsService.loadUserByUsername("guest"));
+
+        assertEquals("User is not authorized", exception.getMessage());
+    }
+
+    private CatalogSecurityProperties.UserCredentials credentials(String username, String password) {
+        CatalogSecurityProperties.UserCredentials credentials = new CatalogSecurityProperties.UserCredentials();
+        credentials.setUsername(username);
+        credentials.setPassword(password);
+        credentials.setRoles(List.of("ADMIN"));
+        return credentials;
+    }
+}
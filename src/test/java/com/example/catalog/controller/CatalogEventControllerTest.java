@@ -0,0 +1,83 @@
+package com.example.catalog.controller;
+
+import com.example.catalog.Exceptions.EventOffsetExpiredException;
+import com.example.catalog.Exceptions.GlobalExceptionHandler;
+import com.example.catalog.outbox.OutboxEventStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class CatalogEventControllerTest {
+
+    @InjectMocks
+    private CatalogEventController catalogEventController;
+
+    @Mock
+    private OutboxEventStream outboxEventStream;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(catalogEventController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        when(outboxEventStream.subscribe(anyLong())).thenReturn(new SseEmitter());
+    }
+
+    @Test
+    void testStreamEventsFromStart() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalog/events"))
+                .andExpect(request().asyncStarted());
+
+        verify(outboxEventStream).subscribe(OutboxEventStream.FROM_OLDEST);
+    }
+
+    @Test
+    void testStreamEventsResumesFromLastEventId() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalog/events")
+                        .header("Last-Event-ID", "42")
+                        .param("from", "7"))
+                .andExpect(request().asyncStarted());
+
+        verify(outboxEventStream).subscribe(42L);
+    }
+
+    @Test
+    void testStreamEventsResumesFromQueryParameter() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalog/events").param("from", "7"))
+                .andExpect(request().asyncStarted());
+
+        verify(outboxEventStream).subscribe(7L);
+    }
+
+    @Test
+    void testStreamEventsFromAnExpiredOffset() throws Exception {
+        when(outboxEventStream.subscribe(3L))
+                .thenThrow(new EventOffsetExpiredException("Events after offset 3 have expired; the oldest retained offset is 10"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalog/events").header("Last-Event-ID", "3"))
+                .andExpect(status().isGone())
+                .andExpect(content().string("Gone: Events after offset 3 have expired; the oldest retained offset is 10"));
+    }
+
+    @Test
+    void testStreamEventsWithNegativeOffset() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalog/events").param("from", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Bad Request: Event offset cannot be negative"));
+
+        verify(outboxEventStream, never()).subscribe(anyLong());
+    }
+}
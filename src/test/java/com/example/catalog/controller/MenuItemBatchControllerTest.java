@@ -0,0 +1,74 @@
+package com.example.catalog.controller;
+
+import com.example.catalog.Dto.MenuBatchResultDto;
+import com.example.catalog.Dto.MenuBatchStatus;
+import com.example.catalog.Dto.MenuItemResponseDto;
+import com.example.catalog.Exceptions.GlobalExceptionHandler;
+import com.example.catalog.Exceptions.InvalidBatchGetRequestException;
+import com.example.catalog.service.MenuItemService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class MenuItemBatchControllerTest {
+
+    @InjectMocks
+    private MenuItemBatchController menuItemBatchController;
+
+    @Mock
+    private MenuItemService menuItemService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(menuItemBatchController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void testBatchGetMenuItems() throws Exception {
+        Map<Long, MenuBatchResultDto> results = new LinkedHashMap<>();
+        results.put(1L, new MenuBatchResultDto(MenuBatchStatus.FOUND, List.of(new MenuItemResponseDto(1L, "Pasta", 19900, "INR", 1L)), null));
+        results.put(999L, new MenuBatchResultDto(MenuBatchStatus.NOT_FOUND, List.of(), "Restaurant with ID '999' not found"));
+        when(menuItemService.getMenuItemsForRestaurants(List.of(1L, 999L))).thenReturn(results);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/catalog/menuItems:batchGet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, 999]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['1'].status").value("FOUND"))
+                .andExpect(jsonPath("$['1'].menuItems[0].name").value("Pasta"))
+                .andExpect(jsonPath("$['1'].menuItems[0].price").value(199.0))
+                .andExpect(jsonPath("$['999'].status").value("NOT_FOUND"))
+                .andExpect(jsonPath("$['999'].message").value("Restaurant with ID '999' not found"));
+    }
+
+    @Test
+    void testBatchGetMenuItemsWithTooManyIds() throws Exception {
+        when(menuItemService.getMenuItemsForRestaurants(anyList()))
+                .thenThrow(new InvalidBatchGetRequestException("Batch get accepts at most 100 restaurant IDs"));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/catalog/menuItems:batchGet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, 2]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Bad Request: Batch get accepts at most 100 restaurant IDs"));
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.catalog.controller;
+
+import com.example.catalog.Dto.BulkMenuItemImportResponse;
+import com.example.catalog.Dto.BulkMenuItemResultDto;
+import com.example.catalog.Dto.BulkMenuItemStatus;
+import com.example.catalog.Dto.MenuItemDto;
+import com.example.catalog.Exceptions.GlobalExceptionHandler;
+import com.example.catalog.Exceptions.RestaurantNotFoundException;
+import com.example.catalog.service.MenuItemService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class MenuItemBulkControllerTest {
+
+    @InjectMocks
+    private MenuItemBulkController menuItemBulkController;
+
+    @Mock
+    private MenuItemService menuItemService;
+
+    private MockMvc mockMvc;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(menuItemBulkController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        objectMapper = new ObjectMapper();
+    }
+
+    @Test
+    void testAddMenuItemsInBulk() throws Exception {
+        List<MenuItemDto> menuItemDtos = List.of(new MenuItemDto("Pasta", 19900, null), new MenuItemDto("Pizza", 29900, null));
+        BulkMenuItemImportResponse response = new BulkMenuItemImportResponse(1L, false, false, 1, List.of(
+                new BulkMenuItemResultDto(0, "Pasta", BulkMenuItemStatus.CREATED, null),
+                new BulkMenuItemResultDto(1, "Pizza", BulkMenuItemStatus.DUPLICATE, "Menu item 'Pizza' already exists for restaurant with ID '1'")));
+
+        when(menuItemService.addMenuItems(eq(1L), anyList(), eq(false))).thenReturn(response);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/catalog/restaurants/{restaurantId}/menuItems:bulk", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(menuItemDtos)))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(response)));
+
+        verify(menuItemService, times(1)).addMenuItems(eq(1L), anyList(), eq(false));
+    }
+
+    @Test
+    void testAddMenuItemsInBulkAtomicRejected() throws Exception {
+        List<MenuItemDto> menuItemDtos = List.of(new MenuItemDto("Pasta", 19900, null), new MenuItemDto("Pizza", 0, null));
+        BulkMenuItemImportResponse response = new BulkMenuItemImportResponse(1L, true, true, 0, List.of(
+                new BulkMenuItemResultDto(0, "Pasta", BulkMenuItemStatus.SKIPPED, "Batch rejected"),
+                new BulkMenuItemResultDto(1, "Pizza", BulkMenuItemStatus.INVALID, "Price must be positive")));
+
+        when(menuItemService.addMenuItems(eq(1L), anyList(), eq(true))).thenReturn(response);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/catalog/restaurants/{restaurantId}/menuItems:bulk", 1L)
+                        .param("atomic", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(menuItemDtos)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(content().json(objectMapper.writeValueAsString(response)));
+    }
+
+    @Test
+    void testAddMenuItemsInBulkRestaurantNotFound() throws Exception {
+        when(menuItemService.addMenuItems(eq(999L), anyList(), eq(false)))
+                .thenThrow(new RestaurantNotFoundException("Restaurant with ID '999' not found"));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/catalog/restaurants/{restaurantId}/menuItems:bulk", 999L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(new MenuItemDto("Pasta", 19900, null)))))
+                .andExpect(status().isNotFound())
+                .andExpect(content().string("Not Found: Restaurant with ID '999' not found"));
+    }
+}
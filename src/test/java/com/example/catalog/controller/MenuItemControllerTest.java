@@ -1,27 +1,42 @@
 package com.example.catalog.controller;
 
 import com.example.catalog.Dto.MenuItemDto;
+import com.example.catalog.Dto.MenuItemJobDto;
+import com.example.catalog.Dto.MenuItemJobStatus;
+import com.example.catalog.Dto.MenuItemPage;
+import com.example.catalog.Dto.MenuItemResponseDto;
+import com.example.catalog.Dto.RestaurantVersionDto;
 import com.example.catalog.Exceptions.*;
-import com.example.catalog.model.MenuItem;
+import com.example.catalog.pipeline.MenuWritePipeline;
 import com.example.catalog.service.MenuItemService;
+import com.example.catalog.snapshot.MenuSnapshot;
+import com.example.catalog.snapshot.MenuSnapshotService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class MenuItemControllerTest {
@@ -32,6 +47,12 @@ class MenuItemControllerTest {
     @Mock
     private MenuItemService menuItemService;
 
+    @Mock
+    private MenuSnapshotService menuSnapshotService;
+
+    @Mock
+    private MenuWritePipeline menuWritePipeline;
+
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
 
@@ -42,11 +63,16 @@ class MenuItemControllerTest {
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
         objectMapper = new ObjectMapper();
+        when(menuItemService.getMenuVersion(anyLong()))
+                .thenAnswer(invocation -> new RestaurantVersionDto(invocation.getArgument(0), 3L, Instant.parse("2024-10-01T10:00:00Z")));
+        when(menuSnapshotService.getSnapshot(anyLong(), any(RestaurantVersionDto.class)))
+                .thenAnswer(invocation -> MenuSnapshot.of(invocation.<RestaurantVersionDto>getArgument(1).getVersion(),
+                        menuItemService.getAllMenuItems(invocation.getArgument(0)), objectMapper));
     }
 
     @Test
     void testAddMenuItemSuccessfully() throws Exception {
-        MenuItemDto menuItemDto = new MenuItemDto("Pasta", 199.0);
+        MenuItemDto menuItemDto = new MenuItemDto("Pasta", 19900, null);
         String jsonRequestBody = objectMapper.writeValueAsString(menuItemDto);
         Long restaurantId = 1L;
 
@@ -57,18 +83,40 @@ class MenuItemControllerTest {
                 .andReturn();
 
         String responseBody = mvcResult.getResponse().getContentAsString();
-        assertEquals("Menu item added successfully: Pasta with price: 199.0", responseBody);
-        verify(menuItemService, times(1)).addMenuItem(restaurantId, "Pasta", 199);
+        assertEquals("Menu item added successfully: Pasta with price: 199.00", responseBody);
+        verify(menuItemService, times(1)).addMenuItem(restaurantId, "Pasta", 19900L, null);
+    }
+
+    @Test
+    void testAddMenuItemReadsDecimalPriceAsMinorUnits() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/catalog/restaurants/{restaurantId}/menuItems", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Pasta\",\"price\":199.5,\"currency\":\"USD\"}"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Menu item added successfully: Pasta with price: 199.50"));
+
+        verify(menuItemService, times(1)).addMenuItem(1L, "Pasta", 19950L, "USD");
+    }
+
+    @Test
+    void testAddMenuItemWithTooManyFractionDigits() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/catalog/restaurants/{restaurantId}/menuItems", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Pasta\",\"price\":199.999}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Bad Request: Price must be a decimal number with at most 2 fraction digits"));
+
+        verify(menuItemService, never()).addMenuItem(anyLong(), any(), anyLong(), any());
     }
 
     @Test
     public void testAddMenuItemWithoutAuthentication() throws Exception {
-        MenuItemDto menuItemDto = new MenuItemDto("Pasta", 199.0);
+        MenuItemDto menuItemDto = new MenuItemDto("Pasta", 19900, null);
         String jsonRequestBody = objectMapper.writeValueAsString(menuItemDto);
         Long restaurantId = 1L;
 
         doThrow(new UserNotAuthorizedException("User is not authorized"))
-                .when(menuItemService).addMenuItem(restaurantId, "Pasta", 199.0);
+                .when(menuItemService).addMenuItem(restaurantId, "Pasta", 19900L, null);
 
         mockMvc.perform(MockMvcRequestBuilders.post("/catalog/restaurants/{restaurantId}/menuItems", restaurantId)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -76,17 +124,17 @@ class MenuItemControllerTest {
                 .andExpect(status().isForbidden())
                 .andExpect(content().string("Access Denied: User is not authorized"));
 
-        verify(menuItemService, times(1)).addMenuItem(anyLong(), any(), anyDouble());
+        verify(menuItemService, times(1)).addMenuItem(anyLong(), any(), anyLong(), any());
     }
 
     @Test
     void testAddMenuItemWithNullName() throws Exception {
-        MenuItemDto menuItemDto = new MenuItemDto(null, 199.0);
+        MenuItemDto menuItemDto = new MenuItemDto(null, 19900, null);
         String jsonRequestBody = objectMapper.writeValueAsString(menuItemDto);
         Long restaurantId = 1L;
 
         doThrow(new MenuItemNameCannotBeNullOrEmptyException("Menu item name cannot be null or empty"))
-                .when(menuItemService).addMenuItem(restaurantId, null, 199.0);
+                .when(menuItemService).addMenuItem(restaurantId, null, 19900L, null);
 
         mockMvc.perform(MockMvcRequestBuilders.post("/catalog/restaurants/{restaurantId}/menuItems", restaurantId)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -94,17 +142,17 @@ class MenuItemControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(content().string("Bad Request: Menu item name cannot be null or empty"));
 
-        verify(menuItemService, times(1)).addMenuItem(anyLong(), any(), anyDouble());
+        verify(menuItemService, times(1)).addMenuItem(anyLong(), any(), anyLong(), any());
     }
 
     @Test
     void testAddMenuItemWithZeroPrice() throws Exception {
-        MenuItemDto menuItemDto = new MenuItemDto("Pasta", 0.0);
+        MenuItemDto menuItemDto = new MenuItemDto("Pasta", 0, null);
         String jsonRequestBody = objectMapper.writeValueAsString(menuItemDto);
         Long restaurantId = 1L;
 
         doThrow(new PriceMustBePositiveException("Price must be positive"))
-                .when(menuItemService).addMenuItem(restaurantId, "Pasta", 0.0);
+                .when(menuItemService).addMenuItem(restaurantId, "Pasta", 0L, null);
 
         mockMvc.perform(MockMvcRequestBuilders.post("/catalog/restaurants/{restaurantId}/menuItems", restaurantId)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -112,17 +160,17 @@ class MenuItemControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(content().string("Bad Request: Price must be positive"));
 
-        verify(menuItemService, times(1)).addMenuItem(anyLong(), any(), anyDouble());
+        verify(menuItemService, times(1)).addMenuItem(anyLong(), any(), anyLong(), any());
     }
 
     @Test
     void testAddMenuItemWithNegativePrice() throws Exception {
-        MenuItemDto menuItemDto = new MenuItemDto("Pasta", -100.0);
+        MenuItemDto menuItemDto = new MenuItemDto("Pasta", -10000, null);
         String jsonRequestBody = objectMapper.writeValueAsString(menuItemDto);
         Long restaurantId = 1L;
 
         doThrow(new PriceMustBePositiveException("Price must be positive"))
-                .when(menuItemService).addMenuItem(restaurantId, "Pasta", -100.0);
+                .when(menuItemService).addMenuItem(restaurantId, "Pasta", -10000L, null);
 
         mockMvc.perform(MockMvcRequestBuilders.post("/catalog/restaurants/{restaurantId}/menuItems", restaurantId)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -130,17 +178,17 @@ class MenuItemControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(content().string("Bad Request: Price must be positive"));
 
-        verify(menuItemService, times(1)).addMenuItem(anyLong(), any(), anyDouble());
+        verify(menuItemService, times(1)).addMenuItem(anyLong(), any(), anyLong(), any());
     }
 
     @Test
     void testAddMenuItemRestaurantNotFound() throws Exception {
-        MenuItemDto menuItemDto = new MenuItemDto("Pasta", 199.0);
+        MenuItemDto menuItemDto = new MenuItemDto("Pasta", 19900, null);
         String jsonRequestBody = objectMapper.writeValueAsString(menuItemDto);
         Long restaurantId = 999L;
 
         doThrow(new RestaurantNotFoundException("Restaurant with ID '999' not found"))
-                .when(menuItemService).addMenuItem(restaurantId, "Pasta", 199);
+                .when(menuItemService).addMenuItem(restaurantId, "Pasta", 19900L, null);
 
         mockMvc.perform(MockMvcRequestBuilders.post("/catalog/restaurants/{restaurantId}/menuItems", restaurantId)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -148,17 +196,17 @@ class MenuItemControllerTest {
                 .andExpect(status().isNotFound())
                 .andExpect(content().string("Not Found: Restaurant with ID '999' not found"));
 
-        verify(menuItemService, times(1)).addMenuItem(restaurantId, "Pasta", 199);
+        verify(menuItemService, times(1)).addMenuItem(restaurantId, "Pasta", 19900L, null);
     }
 
     @Test
     void testAddMenuItemAlreadyExists() throws Exception {
-        MenuItemDto menuItemDto = new MenuItemDto("Pasta", 199.0);
+        MenuItemDto menuItemDto = new MenuItemDto("Pasta", 19900, null);
         String jsonRequestBody = objectMapper.writeValueAsString(menuItemDto);
         Long restaurantId = 1L;
 
         doThrow(new MenuItemAlreadyExistsException("Menu item 'Pasta' already exists for restaurant with ID '1'"))
-                .when(menuItemService).addMenuItem(restaurantId, "Pasta", 199.0);
+                .when(menuItemService).addMenuItem(restaurantId, "Pasta", 19900L, null);
 
         mockMvc.perform(MockMvcRequestBuilders.post("/catalog/restaurants/{restaurantId}/menuItems", restaurantId)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -166,15 +214,15 @@ class MenuItemControllerTest {
                 .andExpect(status().isConflict())
                 .andExpect(content().string("Conflict: Menu item 'Pasta' already exists for restaurant with ID '1'"));
 
-        verify(menuItemService, times(1)).addMenuItem(restaurantId, "Pasta", 199);
+        verify(menuItemService, times(1)).addMenuItem(restaurantId, "Pasta", 19900L, null);
     }
 
     @Test
     void testGetAllMenuItems() throws Exception {
         Long restaurantId = 1L;
-        List<MenuItem> menuItems = Arrays.asList(
-                new MenuItem("Pasta", 199),
-                new MenuItem("Pizza", 299)
+        List<MenuItemResponseDto> menuItems = Arrays.asList(
+                new MenuItemResponseDto(1L, "Pasta", 199, "INR", restaurantId),
+                new MenuItemResponseDto(2L, "Pizza", 299, "INR", restaurantId)
         );
         String expectedResponse = objectMapper.writeValueAsString(menuItems);
 
@@ -209,7 +257,7 @@ class MenuItemControllerTest {
     void testGetMenuItemById() throws Exception {
         Long restaurantId = 1L;
         Long menuItemId = 1L;
-        MenuItem menuItem = new MenuItem("Pasta", 199);
+        MenuItemResponseDto menuItem = new MenuItemResponseDto(menuItemId, "Pasta", 199, "INR", restaurantId);
         String expectedResponse = objectMapper.writeValueAsString(menuItem);
 
         when(menuItemService.getMenuItemById(menuItemId, restaurantId)).thenReturn(menuItem);
@@ -255,4 +303,139 @@ class MenuItemControllerTest {
 
         verify(menuItemService, times(1)).getMenuItemById(menuItemId, restaurantId);
     }
+
+    @Test
+    void testGetAllMenuItemsReturnsETagAndLastModified() throws Exception {
+        Long restaurantId = 1L;
+        when(menuItemService.getAllMenuItems(restaurantId)).thenReturn(List.of());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalog/restaurants/{restaurantId}/menuItems", restaurantId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-3\""))
+                .andExpect(header().string(HttpHeaders.LAST_MODIFIED, "Tue, 01 Oct 2024 10:00:00 GMT"));
+    }
+
+    @Test
+    void testGetAllMenuItemsNotModifiedSkipsMenuLoad() throws Exception {
+        Long restaurantId = 1L;
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalog/restaurants/{restaurantId}/menuItems", restaurantId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(menuItemService, times(1)).getMenuVersion(restaurantId);
+        verify(menuItemService, never()).getAllMenuItems(anyLong());
+    }
+
+    @Test
+    void testGetAllMenuItemsStaleETagReturnsMenu() throws Exception {
+        Long restaurantId = 1L;
+        when(menuItemService.getAllMenuItems(restaurantId)).thenReturn(List.of(new MenuItemResponseDto(1L, "Pasta", 199, "INR", restaurantId)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalog/restaurants/{restaurantId}/menuItems", restaurantId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1-2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-3\""));
+
+        verify(menuItemService, times(1)).getAllMenuItems(restaurantId);
+    }
+
+    @Test
+    void testGetAllMenuItemsServesGzipSnapshotWhenAccepted() throws Exception {
+        Long restaurantId = 1L;
+        List<MenuItemResponseDto> menuItems = List.of(new MenuItemResponseDto(1L, "Pasta", 199, "INR", restaurantId));
+        when(menuItemService.getAllMenuItems(restaurantId)).thenReturn(menuItems);
+
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.get("/catalog/restaurants/{restaurantId}/menuItems", restaurantId)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-3-gzip\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(mvcResult.getResponse().getContentAsByteArray()))) {
+            assertEquals(objectMapper.writeValueAsString(menuItems), new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testAddMenuItemAsyncReturnsAcceptedJob() throws Exception {
+        MenuItemDto menuItemDto = new MenuItemDto("Pasta", 19900, null);
+        when(menuWritePipeline.submit(eq(1L), any(MenuItemDto.class)))
+                .thenReturn(new MenuItemJobDto("job-1", 1L, "Pasta", MenuItemJobStatus.QUEUED, null));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/catalog/restaurants/{restaurantId}/menuItems", 1L)
+                        .param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(menuItemDto)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/catalog/menuItemJobs/job-1"))
+                .andExpect(content().json("{\"jobId\":\"job-1\",\"restaurantId\":1,\"status\":\"QUEUED\"}"));
+
+        verify(menuItemService, never()).addMenuItem(anyLong(), any(), anyLong(), any());
+    }
+
+    @Test
+    void testAddMenuItemAsyncWithFullQueue() throws Exception {
+        when(menuWritePipeline.submit(eq(1L), any(MenuItemDto.class)))
+                .thenThrow(new MenuWriteQueueFullException("Menu write queue is full, retry later"));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/catalog/restaurants/{restaurantId}/menuItems", 1L)
+                        .param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MenuItemDto("Pasta", 19900, null))))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(content().string("Too Many Requests: Menu write queue is full, retry later"));
+    }
+
+    @Test
+    void testAddMenuItemAsyncWhileShuttingDown() throws Exception {
+        when(menuWritePipeline.submit(eq(1L), any(MenuItemDto.class)))
+                .thenThrow(new MenuWritesUnavailableException("Menu writes are not being accepted, retry later"));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/catalog/restaurants/{restaurantId}/menuItems", 1L)
+                        .param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MenuItemDto("Pasta", 19900, null))))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(content().string("Service Unavailable: Menu writes are not being accepted, retry later"));
+    }
+
+    @Test
+    void testGetMenuItemsWithPriceFilterReturnsPage() throws Exception {
+        Long restaurantId = 1L;
+        MenuItemPage page = new MenuItemPage(List.of(new MenuItemResponseDto(1L, "Pasta", 19900, "INR", restaurantId)), "cHJpY2U6MTk5MDA6MQ");
+        when(menuItemService.getMenuItemsPage(restaurantId, "100", "250.50", "price", 1, null)).thenReturn(page);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalog/restaurants/{restaurantId}/menuItems", restaurantId)
+                        .param("minPrice", "100")
+                        .param("maxPrice", "250.50")
+                        .param("sort", "price")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(page)));
+
+        verify(menuSnapshotService, never()).getSnapshot(anyLong(), any(RestaurantVersionDto.class));
+    }
+
+    @Test
+    void testGetMenuItemsWithInvalidSort() throws Exception {
+        when(menuItemService.getMenuItemsPage(1L, null, null, "name", null, null))
+                .thenThrow(new InvalidPageRequestException("Sort must be one of id, price or -price"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalog/restaurants/{restaurantId}/menuItems", 1L).param("sort", "name"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Bad Request: Sort must be one of id, price or -price"));
+    }
+
+    @Test
+    void testAcceptsGzip() {
+        assertTrue(MenuItemController.acceptsGzip("gzip, deflate"));
+        assertTrue(MenuItemController.acceptsGzip("*"));
+        assertFalse(MenuItemController.acceptsGzip("gzip;q=0, *"));
+        assertFalse(MenuItemController.acceptsGzip("identity"));
+        assertFalse(MenuItemController.acceptsGzip(null));
+    }
 }
@@ -0,0 +1,58 @@
+package com.example.catalog.controller;
+
+import com.example.catalog.Dto.MenuItemJobDto;
+import com.example.catalog.Dto.MenuItemJobStatus;
+import com.example.catalog.Exceptions.GlobalExceptionHandler;
+import com.example.catalog.Exceptions.MenuItemJobNotFoundException;
+import com.example.catalog.pipeline.MenuWritePipeline;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class MenuItemJobControllerTest {
+
+    @InjectMocks
+    private MenuItemJobController menuItemJobController;
+
+    @Mock
+    private MenuWritePipeline menuWritePipeline;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(menuItemJobController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void testGetJob() throws Exception {
+        when(menuWritePipeline.getJob("job-1"))
+                .thenReturn(new MenuItemJobDto("job-1", 1L, "Pasta", MenuItemJobStatus.CREATED, null));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalog/menuItemJobs/{jobId}", "job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobId").value("job-1"))
+                .andExpect(jsonPath("$.status").value("CREATED"));
+    }
+
+    @Test
+    void testGetUnknownJob() throws Exception {
+        when(menuWritePipeline.getJob("missing"))
+                .thenThrow(new MenuItemJobNotFoundException("Menu item job 'missing' not found"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalog/menuItemJobs/{jobId}", "missing"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().string("Not Found: Menu item job 'missing' not found"));
+    }
+}
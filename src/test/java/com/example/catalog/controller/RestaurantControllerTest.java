@@ -1,8 +1,12 @@
 package com.example.catalog.controller;
 
 import com.example.catalog.Dto.RestaurantDto;
+import com.example.catalog.Dto.MenuItemResponseDto;
+import com.example.catalog.Dto.RestaurantPage;
+import com.example.catalog.Dto.RestaurantResponseDto;
+import com.example.catalog.Dto.RestaurantVersionDto;
+import com.example.catalog.Dto.RestaurantSummaryDto;
 import com.example.catalog.Exceptions.*;
-import com.example.catalog.model.Restaurant;
 import com.example.catalog.service.RestaurantService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,13 +14,17 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Instant;
 import java.util.*;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -30,6 +38,9 @@ class RestaurantControllerTest {
     @Mock
     private RestaurantService restaurantService;
 
+    @Spy
+    private ObjectMapper controllerObjectMapper = new ObjectMapper();
+
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
 
@@ -38,6 +49,8 @@ class RestaurantControllerTest {
         MockitoAnnotations.openMocks(this);
         mockMvc = MockMvcBuilders.standaloneSetup(restaurantController).setControllerAdvice(new GlobalExceptionHandler()).build();
         objectMapper = new ObjectMapper();
+        when(restaurantService.getRestaurantVersion(anyLong()))
+                .thenAnswer(invocation -> new RestaurantVersionDto(invocation.getArgument(0), 0L, Instant.parse("2024-10-01T10:00:00Z")));
     }
 
     @Test
@@ -122,16 +135,17 @@ class RestaurantControllerTest {
 
     @Test
     void testGetAllRestaurants() throws Exception {
-        List<Restaurant> restaurants = Arrays.asList(
-                new Restaurant("Burger King", "Hyderabad"),
-                new Restaurant("Pizza Hut", "Bengaluru")
+        List<RestaurantResponseDto> restaurants = Arrays.asList(
+                new RestaurantResponseDto(1L, "Burger King", "Hyderabad", List.of(new MenuItemResponseDto(1L, "Whopper", 199, "INR", 1L))),
+                new RestaurantResponseDto(2L, "Pizza Hut", "Bengaluru", List.of())
         );
 
-        when(restaurantService.getAllRestaurants()).thenReturn(restaurants);
+        when(restaurantService.getAllRestaurants()).thenReturn(new RestaurantPage(restaurants, null));
 
         MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.get("/catalog/restaurants")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LINK))
                 .andReturn();
 
         String responseBody = mvcResult.getResponse().getContentAsString();
@@ -139,9 +153,22 @@ class RestaurantControllerTest {
         assertEquals(2, restaurants.size());
     }
 
+    @Test
+    void testGetAllRestaurantsTruncatedLinksToTheNextPage() throws Exception {
+        List<RestaurantResponseDto> restaurants = List.of(new RestaurantResponseDto(1L, "Burger King", "Hyderabad", List.of()));
+        when(restaurantService.getAllRestaurants()).thenReturn(new RestaurantPage(restaurants, 1L));
+        when(restaurantService.getMaxPageSize()).thenReturn(500);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalog/restaurants")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.LINK, "<http://localhost/catalog/restaurants?after=1&limit=500>; rel=\"next\""))
+                .andExpect(content().json(objectMapper.writeValueAsString(restaurants)));
+    }
+
     @Test
     void testGetAllRestaurantsEmpty() throws Exception {
-        when(restaurantService.getAllRestaurants()).thenReturn(Arrays.asList());
+        when(restaurantService.getAllRestaurants()).thenReturn(new RestaurantPage(List.of(), null));
 
         MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.get("/catalog/restaurants")
                         .contentType(MediaType.APPLICATION_JSON))
@@ -158,7 +185,7 @@ class RestaurantControllerTest {
     @Test
     void testGetRestaurantByIdFound() throws Exception {
         Long restaurantId = 1L;
-        Restaurant restaurant = new Restaurant("Burger King", "Hyderabad");
+        RestaurantResponseDto restaurant = new RestaurantResponseDto(restaurantId, "Burger King", "Hyderabad", List.of());
 
         when(restaurantService.getRestaurantById(restaurantId)).thenReturn(restaurant);
 
@@ -183,4 +210,85 @@ class RestaurantControllerTest {
 
         verify(restaurantService, times(1)).getRestaurantById(restaurantId);
     }
+
+    @Test
+    void testGetRestaurantsPage() throws Exception {
+        RestaurantPage page = new RestaurantPage(List.of(new RestaurantResponseDto(1L, "Burger King", "Hyderabad", List.of())), 1L);
+
+        when(restaurantService.getRestaurantsPage(null, 1)).thenReturn(page);
+
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.get("/catalog/restaurants")
+                        .param("limit", "1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertEquals(objectMapper.writeValueAsString(page), mvcResult.getResponse().getContentAsString());
+        verify(restaurantService, times(1)).getRestaurantsPage(null, 1);
+        verify(restaurantService, never()).getAllRestaurants();
+    }
+
+    @Test
+    void testGetRestaurantsPageAfterCursor() throws Exception {
+        RestaurantPage page = new RestaurantPage(Collections.emptyList(), null);
+
+        when(restaurantService.getRestaurantsPage(10L, 20)).thenReturn(page);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalog/restaurants")
+                        .param("after", "10")
+                        .param("limit", "20")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"restaurants\":[],\"nextCursor\":null}"));
+
+        verify(restaurantService, times(1)).getRestaurantsPage(10L, 20);
+    }
+
+    @Test
+    void testGetRestaurantsPageWithInvalidLimit() throws Exception {
+        when(restaurantService.getRestaurantsPage(null, 0))
+                .thenThrow(new InvalidPageRequestException("Page size must be between 1 and 500"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalog/restaurants")
+                        .param("limit", "0")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Bad Request: Page size must be between 1 and 500"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStreamRestaurantsAsNdjson() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<RestaurantSummaryDto> consumer = invocation.getArgument(0);
+            consumer.accept(new RestaurantSummaryDto(1L, "Burger King", "Hyderabad"));
+            consumer.accept(new RestaurantSummaryDto(2L, "Pizza Hut", "Bengaluru"));
+            return null;
+        }).when(restaurantService).streamRestaurants(any(Consumer.class));
+
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.get("/catalog/restaurants")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                        "{\"id\":1,\"name\":\"Burger King\",\"address\":\"Hyderabad\"}\n" +
+                        "{\"id\":2,\"name\":\"Pizza Hut\",\"address\":\"Bengaluru\"}\n"));
+
+        verify(restaurantService, never()).getAllRestaurants();
+    }
+
+    @Test
+    void testGetRestaurantByIdNotModified() throws Exception {
+        Long restaurantId = 1L;
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalog/restaurants/{restaurantId}", restaurantId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1-0\""))
+                .andExpect(status().isNotModified());
+
+        verify(restaurantService, never()).getRestaurantById(anyLong());
+    }
 }
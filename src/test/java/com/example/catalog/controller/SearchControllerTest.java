@@ -0,0 +1,69 @@
+package com.example.catalog.controller;
+
+import com.example.catalog.Dto.SearchResultDto;
+import com.example.catalog.Dto.SearchResultType;
+import com.example.catalog.Exceptions.GlobalExceptionHandler;
+import com.example.catalog.search.CatalogSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class SearchControllerTest {
+
+    @InjectMocks
+    private SearchController searchController;
+
+    @Mock
+    private CatalogSearchIndex searchIndex;
+
+    private MockMvc mockMvc;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(searchController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        objectMapper = new ObjectMapper();
+    }
+
+    @Test
+    void testSearch() throws Exception {
+        List<SearchResultDto> results = List.of(new SearchResultDto(SearchResultType.MENU_ITEM, 1L, 10L, "Margherita Pizza"));
+        when(searchIndex.search("pizza", 20)).thenReturn(results);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalog/search").param("q", "pizza"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(results)));
+    }
+
+    @Test
+    void testSearchWithBlankQuery() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalog/search").param("q", " "))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Bad Request: Search query cannot be empty"));
+
+        verify(searchIndex, never()).search(anyString(), anyInt());
+    }
+
+    @Test
+    void testSearchWithLimitAboveMaximum() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalog/search").param("q", "pizza").param("limit", "101"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Bad Request: Limit must be between 1 and 100"));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.catalog.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadYourWritesFilterTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void testWriteSetsCookieAndUsesPrimary() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean primaryOnly = run(new MockHttpServletRequest("POST", "/catalog/restaurants"), response);
+
+        assertTrue(primaryOnly);
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertNotNull(cookie);
+        assertEquals(Long.toString(NOW.toEpochMilli() + 5000), cookie.getValue());
+        assertFalse(ReadYourWrites.isActive());
+    }
+
+    @Test
+    void testReadWithinWindowUsesPrimary() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/catalog/restaurants/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(NOW.toEpochMilli() + 1000)));
+
+        assertTrue(run(request, new MockHttpServletResponse()));
+    }
+
+    @Test
+    void testReadWithoutCookieOrExpiredCookieMayUseReplica() throws Exception {
+        MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/catalog/restaurants/1");
+        expired.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(NOW.toEpochMilli() - 1)));
+
+        assertFalse(run(new MockHttpServletRequest("GET", "/catalog/restaurants/1"), new MockHttpServletResponse()));
+        assertFalse(run(expired, new MockHttpServletResponse()));
+    }
+
+    @Test
+    void testForgedCookieBeyondWindowIsIgnored() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/catalog/restaurants/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(Long.MAX_VALUE)));
+
+        assertFalse(run(request, new MockHttpServletResponse()));
+    }
+
+    private boolean run(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        AtomicBoolean primaryOnly = new AtomicBoolean();
+        filter.doFilter(request, response, (req, res) -> primaryOnly.set(ReadYourWrites.isActive()));
+        return primaryOnly.get();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.catalog.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReplicaRoutingDataSourceTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        routingDataSource = new ReplicaRoutingDataSource(primary, Map.of("replica-0", replica));
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.end();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void testReadOnlyTransactionsUseTheReplica() {
+        assertEquals("replica", readOnlyTransaction.execute(status -> node()));
+    }
+
+    @Test
+    void testReadWriteTransactionsUseThePrimary() {
+        assertEquals("primary", readWriteTransaction.execute(status -> node()));
+        assertEquals("primary", node());
+    }
+
+    @Test
+    void testReadYourWritesKeepsReadsOnThePrimary() {
+        ReadYourWrites.begin();
+
+        assertEquals("primary", readOnlyTransaction.execute(status -> node()));
+    }
+
+    @Test
+    void testLaggingReplicaIsSkippedUntilItCatchesUp() {
+        new ReplicaLagMonitor(routingDataSource, "SELECT 30", Duration.ofSeconds(5)).checkLag();
+        assertEquals("primary", readOnlyTransaction.execute(status -> node()));
+
+        new ReplicaLagMonitor(routingDataSource, "SELECT 1", Duration.ofSeconds(5)).checkLag();
+        assertEquals("replica", readOnlyTransaction.execute(status -> node()));
+    }
+
+    @Test
+    void testUnreachableReplicaIsSkipped() {
+        new ReplicaLagMonitor(routingDataSource, "SELECT lag FROM missing_table", Duration.ofSeconds(5)).checkLag();
+
+        assertEquals("primary", readOnlyTransaction.execute(status -> node()));
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name + "-" + System.nanoTime())
+                .build();
+        new JdbcTemplate(database).execute("CREATE TABLE node (name VARCHAR(20))");
+        new JdbcTemplate(database).update("INSERT INTO node VALUES (?)", name);
+        return database;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.catalog.model;
 
+import com.example.catalog.Exceptions.InvalidCurrencyException;
 import com.example.catalog.Exceptions.MenuItemNameCannotBeNullOrEmptyException;
 import com.example.catalog.Exceptions.PriceMustBePositiveException;
 import org.junit.jupiter.api.Test;
@@ -46,4 +47,26 @@ class MenuItemTest {
         });
         assertEquals("Price must be positive", exception.getMessage());
     }
+
+    @Test
+    void testConstructorDefaultsCurrency() {
+        MenuItem menuItem = new MenuItem("Pasta", 19900, null);
+
+        assertEquals(19900, menuItem.getPriceMinor());
+        assertEquals(MenuItem.DEFAULT_CURRENCY, menuItem.getCurrency());
+    }
+
+    @Test
+    void testConstructorInvalidCurrency() {
+        Exception exception = assertThrows(InvalidCurrencyException.class, () -> {
+            new MenuItem("Pasta", 19900, "usd");
+        });
+        assertEquals("Currency must be a three-letter ISO 4217 code", exception.getMessage());
+    }
+
+    @Test
+    void testConstructorUnknownCurrency() {
+        assertThrows(InvalidCurrencyException.class, () -> new MenuItem("Pasta", 19900, "ABC"));
+        assertNotNull(new MenuItem("Ramen", 980, "JPY"));
+    }
 }
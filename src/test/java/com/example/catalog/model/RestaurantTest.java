@@ -50,7 +50,7 @@ class RestaurantTest {
     void testAddMenuItem() {
         Restaurant restaurant = new Restaurant("Domino's", "Kukatpally, Hyderabad");
 
-        MenuItem menuItem = restaurant.addMenuItem("Margherita", 150);
+        MenuItem menuItem = restaurant.addMenuItem("Margherita", 150, null);
 
         assertNotNull(menuItem);
     }
@@ -0,0 +1,242 @@
+package com.example.catalog.outbox;
+
+import com.example.catalog.Exceptions.EventOffsetExpiredException;
+import com.example.catalog.model.OutboxEvent;
+import com.example.catalog.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class OutboxEventStreamTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private Clock clock;
+
+    private QueuedExecutor executor;
+    private OutboxEventStream stream;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(clock.millis()).thenReturn(0L);
+        when(outboxEventRepository.findPublishedAfter(anyLong(), any(Pageable.class))).thenReturn(List.of());
+        executor = new QueuedExecutor();
+        stream = new OutboxEventStream(outboxEventRepository, 500, Duration.ofSeconds(15), clock, executor);
+    }
+
+    @Test
+    void testResumesAfterTheSubscribersOffset() {
+        when(outboxEventRepository.findPublishedAfter(eq(2L), any(Pageable.class))).thenReturn(events(3, 4));
+        RecordingEmitter emitter = subscribe(2);
+
+        stream.dispatch();
+        executor.runAll();
+        stream.dispatch();
+        executor.runAll();
+
+        assertEquals(List.of("3", "4"), emitter.ids());
+        verify(outboxEventRepository).findPublishedAfter(eq(4L), any(Pageable.class));
+    }
+
+    @Test
+    void testEachCursorIsQueriedOnceAndOnlyNewEventsAreSent() {
+        when(outboxEventRepository.findPublishedAfter(eq(0L), any(Pageable.class))).thenReturn(events(1, 2));
+        when(outboxEventRepository.findPublishedAfter(eq(100L), any(Pageable.class))).thenReturn(events(101));
+        RecordingEmitter catchingUp = subscribe(0);
+        RecordingEmitter live = subscribe(100);
+        RecordingEmitter alsoLive = subscribe(100);
+
+        stream.dispatch();
+        executor.runAll();
+
+        verify(outboxEventRepository, times(1)).findPublishedAfter(eq(0L), any(Pageable.class));
+        verify(outboxEventRepository, times(1)).findPublishedAfter(eq(100L), any(Pageable.class));
+        assertEquals(List.of("1", "2"), catchingUp.ids());
+        assertEquals(List.of("101"), live.ids());
+        assertEquals(List.of("101"), alsoLive.ids());
+    }
+
+    @Test
+    void testHeartbeatIsSentOnlyAfterTheIntervalWithoutEvents() {
+        RecordingEmitter emitter = subscribe(0);
+
+        when(clock.millis()).thenReturn(14_999L);
+        stream.dispatch();
+        executor.runAll();
+        assertEquals(0, emitter.heartbeats);
+
+        when(clock.millis()).thenReturn(15_000L);
+        stream.dispatch();
+        executor.runAll();
+        assertEquals(1, emitter.heartbeats);
+    }
+
+    @Test
+    void testStalledSubscriberDoesNotBlockDispatchOrGetASecondSend() {
+        subscribe(0);
+        stream.dispatch();
+        assertEquals(1, executor.tasks.size());
+
+        // Its send has not run yet, so it is skipped while a new subscriber is served.
+        subscribe(0);
+        stream.dispatch();
+        assertEquals(2, executor.tasks.size());
+
+        executor.runAll();
+        stream.dispatch();
+        assertEquals(2, executor.tasks.size());
+    }
+
+    @Test
+    void testFailedSendRemovesTheSubscriber() {
+        when(outboxEventRepository.findPublishedAfter(eq(0L), any(Pageable.class))).thenReturn(events(1));
+        RecordingEmitter emitter = subscribe(0);
+        emitter.failing = true;
+
+        stream.dispatch();
+        executor.runAll();
+
+        assertEquals(0, stream.subscriberCount());
+    }
+
+    @Test
+    void testResumingFromAnExpiredOffsetIsRefused() {
+        when(outboxEventRepository.findOldestPublishedOffset()).thenReturn(10L);
+
+        EventOffsetExpiredException exception = assertThrows(EventOffsetExpiredException.class, () -> subscribe(8));
+
+        assertEquals("Events after offset 8 have expired; the oldest retained offset is 10", exception.getMessage());
+        assertEquals(0, stream.subscriberCount());
+        subscribe(9);
+        subscribe(OutboxEventStream.FROM_OLDEST);
+        assertEquals(2, stream.subscriberCount());
+    }
+
+    @Test
+    void testSubscriberWhoseNextEventsExpiredGetsAResetAndIsClosed() {
+        when(outboxEventRepository.findPublishedAfter(eq(2L), any(Pageable.class))).thenReturn(events(3));
+        when(outboxEventRepository.findPublishedAfter(eq(3L), any(Pageable.class))).thenReturn(events(6, 7));
+        RecordingEmitter emitter = subscribe(2);
+
+        stream.dispatch();
+        executor.runAll();
+        stream.dispatch();
+        executor.runAll();
+
+        assertEquals(2, emitter.sent.size());
+        assertTrue(emitter.sent.get(1).startsWith("event:" + OutboxEventStream.RESET_EVENT + "\n"));
+        assertEquals(0, stream.subscriberCount());
+    }
+
+    @Test
+    void testSubscriberFromTheOldestEventStartsWhereverTheLogBegins() {
+        when(outboxEventRepository.findPublishedAfter(eq(OutboxEventStream.FROM_OLDEST), any(Pageable.class))).thenReturn(events(40, 41));
+        RecordingEmitter emitter = subscribe(OutboxEventStream.FROM_OLDEST);
+
+        stream.dispatch();
+        executor.runAll();
+
+        assertEquals(List.of("40", "41"), emitter.ids());
+        assertEquals(1, stream.subscriberCount());
+    }
+
+    private RecordingEmitter subscribe(long afterOffset) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        stream.subscribe(emitter, afterOffset);
+        return emitter;
+    }
+
+    private static List<OutboxEvent> events(long... offsets) {
+        List<OutboxEvent> events = new ArrayList<>();
+        for (long offset : offsets) {
+            OutboxEvent event = new OutboxEvent(OutboxWriter.MENU_ITEM_ADDED, 1L, "{}");
+            event.publish(offset);
+            events.add(event);
+        }
+        return events;
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<String> sent = new ArrayList<>();
+        private int heartbeats;
+        private boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            String event = builder.build().stream().map(part -> part.getData().toString()).collect(Collectors.joining());
+            if (event.startsWith(":heartbeat")) {
+                heartbeats++;
+            } else {
+                sent.add(event);
+            }
+        }
+
+        private List<String> ids() {
+            return sent.stream().map(event -> event.substring(3, event.indexOf('\n'))).toList();
+        }
+    }
+
+    // Holds tasks until the test runs them, standing in for sends that are still in flight.
+    private static final class QueuedExecutor extends AbstractExecutorService {
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        private void runAll() {
+            List<Runnable> queued = new ArrayList<>(tasks);
+            tasks.clear();
+            queued.forEach(Runnable::run);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
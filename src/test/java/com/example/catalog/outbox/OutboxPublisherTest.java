@@ -0,0 +1,77 @@
+package com.example.catalog.outbox;
+
+import com.example.catalog.model.OutboxCursor;
+import com.example.catalog.model.OutboxEvent;
+import com.example.catalog.repository.OutboxCursorRepository;
+import com.example.catalog.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OutboxPublisherTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxCursorRepository outboxCursorRepository;
+
+    private OutboxPublisher outboxPublisher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        outboxPublisher = new OutboxPublisher(outboxEventRepository, outboxCursorRepository, 500, Duration.ofDays(7));
+    }
+
+    @Test
+    void testPublishPendingAssignsConsecutiveOffsetsAfterCursor() {
+        OutboxCursor cursor = new OutboxCursor();
+        cursor.setLastOffset(41);
+        OutboxEvent first = new OutboxEvent(OutboxWriter.RESTAURANT_ADDED, 1L, "{}");
+        OutboxEvent second = new OutboxEvent(OutboxWriter.MENU_ITEM_ADDED, 1L, "{}");
+        when(outboxCursorRepository.lockCursor()).thenReturn(Optional.of(cursor));
+        when(outboxEventRepository.findUnpublished(any(Pageable.class))).thenReturn(List.of(first, second));
+
+        int published = outboxPublisher.publishPending();
+
+        assertEquals(2, published);
+        assertEquals(42L, first.getEventOffset());
+        assertEquals(43L, second.getEventOffset());
+        assertEquals(43L, cursor.getLastOffset());
+    }
+
+    @Test
+    void testPublishPendingCreatesMissingCursor() {
+        OutboxEvent event = new OutboxEvent(OutboxWriter.RESTAURANT_ADDED, 1L, "{}");
+        when(outboxCursorRepository.lockCursor()).thenReturn(Optional.empty());
+        when(outboxCursorRepository.save(any(OutboxCursor.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(outboxEventRepository.findUnpublished(any(Pageable.class))).thenReturn(List.of(event));
+
+        outboxPublisher.publishPending();
+
+        assertEquals(1L, event.getEventOffset());
+        verify(outboxCursorRepository).save(any(OutboxCursor.class));
+    }
+
+    @Test
+    void testPublishPendingWithNothingToPublishKeepsCursor() {
+        OutboxCursor cursor = new OutboxCursor();
+        cursor.setLastOffset(7);
+        when(outboxCursorRepository.lockCursor()).thenReturn(Optional.of(cursor));
+        when(outboxEventRepository.findUnpublished(any(Pageable.class))).thenReturn(List.of());
+
+        assertEquals(0, outboxPublisher.publishPending());
+        assertEquals(7L, cursor.getLastOffset());
+    }
+}
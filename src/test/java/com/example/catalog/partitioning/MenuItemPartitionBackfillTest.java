@@ -0,0 +1,102 @@
+package com.example.catalog.partitioning;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class MenuItemPartitionBackfillTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private MenuItemPartitionBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        backfill = new MenuItemPartitionBackfill(jdbcTemplate, 1000, false, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void testCopiesTheNextBatchAndSavesProgress() {
+        when(jdbcTemplate.queryForMap(MenuItemPartitionBackfill.LOCK_PROGRESS)).thenReturn(progress(500L, null, null));
+        when(jdbcTemplate.queryForMap(MenuItemPartitionBackfill.COPY_BATCH, 500L, 1000)).thenReturn(Map.of("rows_read", 1000L, "max_id", 1700L));
+
+        int copied = backfill.copyNextBatch();
+
+        assertEquals(1000, copied);
+        verify(jdbcTemplate).update(MenuItemPartitionBackfill.SAVE_PROGRESS, 1700L);
+        verify(jdbcTemplate, never()).update(MenuItemPartitionBackfill.MARK_COMPLETED);
+    }
+
+    @Test
+    void testMarksCompletionWhenNothingIsLeft() {
+        when(jdbcTemplate.queryForMap(MenuItemPartitionBackfill.LOCK_PROGRESS)).thenReturn(progress(1700L, null, null));
+        Map<String, Object> empty = new HashMap<>();
+        empty.put("rows_read", 0L);
+        empty.put("max_id", null);
+        when(jdbcTemplate.queryForMap(MenuItemPartitionBackfill.COPY_BATCH, 1700L, 1000)).thenReturn(empty);
+
+        int copied = backfill.copyNextBatch();
+
+        assertEquals(0, copied);
+        verify(jdbcTemplate).update(MenuItemPartitionBackfill.MARK_COMPLETED);
+        verify(jdbcTemplate, never()).update(eq(MenuItemPartitionBackfill.SAVE_PROGRESS), any(Object[].class));
+    }
+
+    @Test
+    void testDoesNotCutOverUnlessEnabled() {
+        when(jdbcTemplate.queryForMap(MenuItemPartitionBackfill.LOCK_PROGRESS)).thenReturn(progress(1700L, now(), null));
+
+        backfill.copyNextBatch();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+        verify(jdbcTemplate, never()).queryForMap(eq(MenuItemPartitionBackfill.COPY_BATCH), any(Object[].class));
+    }
+
+    @Test
+    void testCutsOverOnceCompleteUnderALockTimeout() {
+        backfill = new MenuItemPartitionBackfill(jdbcTemplate, 1000, true, Duration.ofSeconds(5));
+        when(jdbcTemplate.queryForMap(MenuItemPartitionBackfill.LOCK_PROGRESS)).thenReturn(progress(1700L, now(), null));
+
+        backfill.copyNextBatch();
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("SET LOCAL lock_timeout = '5000ms'");
+        MenuItemPartitionBackfill.CUT_OVER.forEach(statement -> inOrder.verify(jdbcTemplate).execute(statement));
+    }
+
+    @Test
+    void testDoesNothingAfterCutOver() {
+        backfill = new MenuItemPartitionBackfill(jdbcTemplate, 1000, true, Duration.ofSeconds(5));
+        when(jdbcTemplate.queryForMap(MenuItemPartitionBackfill.LOCK_PROGRESS)).thenReturn(progress(1700L, now(), now()));
+
+        assertEquals(0, backfill.copyNextBatch());
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    private Map<String, Object> progress(long lastId, Timestamp completedAt, Timestamp cutOverAt) {
+        Map<String, Object> progress = new HashMap<>();
+        progress.put("last_id", lastId);
+        progress.put("completed_at", completedAt);
+        progress.put("cut_over_at", cutOverAt);
+        return progress;
+    }
+
+    private Timestamp now() {
+        return new Timestamp(System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.catalog.pipeline;
+
+import com.example.catalog.Dto.BulkMenuItemImportResponse;
+import com.example.catalog.Dto.BulkMenuItemResultDto;
+import com.example.catalog.Dto.BulkMenuItemStatus;
+import com.example.catalog.Dto.MenuItemDto;
+import com.example.catalog.Dto.MenuItemJobDto;
+import com.example.catalog.Dto.MenuItemJobStatus;
+import com.example.catalog.Exceptions.MenuItemAlreadyExistsException;
+import com.example.catalog.Exceptions.MenuItemJobNotFoundException;
+import com.example.catalog.Exceptions.MenuItemNameCannotBeNullOrEmptyException;
+import com.example.catalog.Exceptions.MenuWriteQueueFullException;
+import com.example.catalog.Exceptions.MenuWritesUnavailableException;
+import com.example.catalog.Exceptions.RestaurantNotFoundException;
+import com.example.catalog.service.MenuItemService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class MenuWritePipelineTest {
+
+    @Mock
+    private MenuItemService menuItemService;
+
+    private MenuWritePipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // No workers, so queued writes are only applied by the drain in stop().
+        pipeline = new MenuWritePipeline(menuItemService, 2, 0, 500, Duration.ofHours(1));
+        pipeline.start();
+    }
+
+    @Test
+    void testQueuedWritesAreCoalescedPerRestaurant() {
+        pipeline = new MenuWritePipeline(menuItemService, 10, 0, 500, Duration.ofHours(1));
+        pipeline.start();
+        when(menuItemService.addMenuItems(eq(1L), anyList(), eq(false))).thenReturn(response(1L,
+                new BulkMenuItemResultDto(0, "Pasta", BulkMenuItemStatus.CREATED, null),
+                new BulkMenuItemResultDto(1, "Pizza", BulkMenuItemStatus.DUPLICATE, "Menu item already exists")));
+        when(menuItemService.addMenuItems(eq(2L), anyList(), eq(false))).thenReturn(response(2L,
+                new BulkMenuItemResultDto(0, "Soup", BulkMenuItemStatus.CREATED, null)));
+
+        MenuItemJobDto pasta = pipeline.submit(1L, new MenuItemDto("Pasta", 19900, null));
+        MenuItemJobDto soup = pipeline.submit(2L, new MenuItemDto("Soup", 9900, null));
+        MenuItemJobDto pizza = pipeline.submit(1L, new MenuItemDto("Pizza", 29900, null));
+        assertEquals(MenuItemJobStatus.QUEUED, pipeline.getJob(pasta.getJobId()).getStatus());
+
+        pipeline.stop();
+
+        verify(menuItemService).addMenuItems(eq(1L), argThat(items -> items.size() == 2
+                && items.get(0).getName().equals("Pasta") && items.get(1).getName().equals("Pizza")), eq(false));
+        verify(menuItemService).addMenuItems(eq(2L), argThat(items -> items.size() == 1), eq(false));
+        assertEquals(MenuItemJobStatus.CREATED, pipeline.getJob(pasta.getJobId()).getStatus());
+        assertEquals(MenuItemJobStatus.CREATED, pipeline.getJob(soup.getJobId()).getStatus());
+        assertEquals(MenuItemJobStatus.DUPLICATE, pipeline.getJob(pizza.getJobId()).getStatus());
+        assertEquals("Menu item already exists", pipeline.getJob(pizza.getJobId()).getMessage());
+    }
+
+    @Test
+    void testConcurrentDuplicateRetriesItemsOneByOne() {
+        when(menuItemService.addMenuItems(eq(1L), anyList(), eq(false))).thenAnswer(invocation -> {
+            List<MenuItemDto> items = invocation.getArgument(1);
+            if (items.size() > 1 || items.get(0).getName().equals("Pizza")) {
+                throw new MenuItemAlreadyExistsException("One or more menu items already exist");
+            }
+            return response(1L, new BulkMenuItemResultDto(0, items.get(0).getName(), BulkMenuItemStatus.CREATED, null));
+        });
+
+        MenuItemJobDto pasta = pipeline.submit(1L, new MenuItemDto("Pasta", 19900, null));
+        MenuItemJobDto pizza = pipeline.submit(1L, new MenuItemDto("Pizza", 29900, null));
+        pipeline.stop();
+
+        verify(menuItemService, times(3)).addMenuItems(eq(1L), anyList(), eq(false));
+        assertEquals(MenuItemJobStatus.CREATED, pipeline.getJob(pasta.getJobId()).getStatus());
+        assertEquals(MenuItemJobStatus.DUPLICATE, pipeline.getJob(pizza.getJobId()).getStatus());
+    }
+
+    @Test
+    void testFailedBatchMarksEveryJobFailed() {
+        when(menuItemService.addMenuItems(eq(999L), anyList(), anyBoolean()))
+                .thenThrow(new RestaurantNotFoundException("Restaurant with ID '999' not found"));
+
+        MenuItemJobDto pasta = pipeline.submit(999L, new MenuItemDto("Pasta", 19900, null));
+        MenuItemJobDto pizza = pipeline.submit(999L, new MenuItemDto("Pizza", 29900, null));
+        pipeline.stop();
+
+        for (MenuItemJobDto job : List.of(pasta, pizza)) {
+            MenuItemJobDto status = pipeline.getJob(job.getJobId());
+            assertEquals(MenuItemJobStatus.FAILED, status.getStatus());
+            assertEquals("Restaurant with ID '999' not found", status.getMessage());
+        }
+    }
+
+    @Test
+    void testFullQueueRejectsSubmission() {
+        pipeline.submit(1L, new MenuItemDto("Pasta", 19900, null));
+        pipeline.submit(1L, new MenuItemDto("Pizza", 29900, null));
+
+        assertThrows(MenuWriteQueueFullException.class, () -> pipeline.submit(1L, new MenuItemDto("Soup", 9900, null)));
+    }
+
+    @Test
+    void testInvalidItemIsRejectedBeforeQueueing() {
+        assertThrows(MenuItemNameCannotBeNullOrEmptyException.class, () -> pipeline.submit(1L, new MenuItemDto(" ", 19900, null)));
+
+        pipeline.stop();
+
+        verifyNoInteractions(menuItemService);
+    }
+
+    @Test
+    void testSubmissionAfterStopIsRefused() {
+        pipeline.stop();
+
+        assertThrows(MenuWritesUnavailableException.class, () -> pipeline.submit(1L, new MenuItemDto("Pasta", 19900, null)));
+        verifyNoInteractions(menuItemService);
+    }
+
+    @Test
+    void testStopsAfterTheWebServer() {
+        assertTrue(pipeline.getPhase() < SmartLifecycle.DEFAULT_PHASE - 2048);
+    }
+
+    @Test
+    void testUnknownJob() {
+        assertThrows(MenuItemJobNotFoundException.class, () -> pipeline.getJob("missing"));
+    }
+
+    private static BulkMenuItemImportResponse response(Long restaurantId, BulkMenuItemResultDto... results) {
+        int inserted = (int) List.of(results).stream().filter(result -> result.getStatus() == BulkMenuItemStatus.CREATED).count();
+        return new BulkMenuItemImportResponse(restaurantId, false, false, inserted, new ArrayList<>(List.of(results)));
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.catalog.pricing;
+
+import com.example.catalog.Dto.MenuItemDto;
+import com.example.catalog.Dto.MenuItemResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceFormatTest {
+
+    // Same module set as the MVC converter, which the DTOs' constructor binding relies on.
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void testParse() {
+        assertEquals(29950, parse("299.5"));
+        assertEquals(29950, parse("299.50"));
+        assertEquals(29900, parse("299"));
+        assertEquals(5, parse("0.05"));
+        assertEquals(29950, parse("299.500"));
+        assertEquals(-1000, parse("-10"));
+    }
+
+    @Test
+    void testParseRejectsInvalidText() {
+        for (String text : new String[] {"", "-", ".5", "5.", "2.999", "1e2", "12a", "99999999999999999999"}) {
+            assertThrows(NumberFormatException.class, () -> parse(text), text);
+        }
+    }
+
+    @Test
+    void testParseUsesTheCurrencyExponent() {
+        assertEquals(2995, PriceFormat.parse("2995".toCharArray(), 0, 4, 0));
+        assertThrows(NumberFormatException.class, () -> PriceFormat.parse("2995.5".toCharArray(), 0, 6, 0));
+        assertEquals(1250, PriceFormat.parse("1.25".toCharArray(), 0, 4, 3));
+    }
+
+    @Test
+    void testFractionDigits() {
+        assertEquals(2, PriceFormat.fractionDigits("INR"));
+        assertEquals(0, PriceFormat.fractionDigits("JPY"));
+        assertEquals(3, PriceFormat.fractionDigits("KWD"));
+        assertEquals(-1, PriceFormat.fractionDigits("ABC"));
+        assertEquals(-1, PriceFormat.fractionDigits("inr"));
+        // Gold has no minor unit.
+        assertEquals(-1, PriceFormat.fractionDigits("XAU"));
+    }
+
+    @Test
+    void testFormat() {
+        assertEquals("299.50", PriceFormat.toString(29950, 2));
+        assertEquals("0.05", PriceFormat.toString(5, 2));
+        assertEquals("0.00", PriceFormat.toString(0, 2));
+        assertEquals("-10.00", PriceFormat.toString(-1000, 2));
+        assertEquals("-92233720368547758.08", PriceFormat.toString(Long.MIN_VALUE, 2));
+        assertEquals("2995", PriceFormat.toString(2995, 0));
+        assertEquals("1.250", PriceFormat.toString(1250, 3));
+        assertEquals("-922337203685477.5808", PriceFormat.toString(Long.MIN_VALUE, PriceFormat.MAX_FRACTION_DIGITS));
+    }
+
+    @Test
+    void testJsonRoundTrip() throws Exception {
+        String json = objectMapper.writeValueAsString(new MenuItemResponseDto(1L, "Pasta", 19905, "INR", 1L));
+
+        assertEquals("{\"id\":1,\"name\":\"Pasta\",\"price\":199.05,\"currency\":\"INR\"}", json);
+        assertEquals(19905, objectMapper.readValue(json, MenuItemResponseDto.class).getPrice());
+    }
+
+    @Test
+    void testJsonUsesTheCurrencyExponent() throws Exception {
+        String yen = objectMapper.writeValueAsString(new MenuItemResponseDto(1L, "Ramen", 980, "JPY", 1L));
+        String dinar = objectMapper.writeValueAsString(new MenuItemResponseDto(2L, "Kebab", 1250, "KWD", 1L));
+
+        assertEquals("{\"id\":1,\"name\":\"Ramen\",\"price\":980,\"currency\":\"JPY\"}", yen);
+        assertEquals("{\"id\":2,\"name\":\"Kebab\",\"price\":1.250,\"currency\":\"KWD\"}", dinar);
+        assertEquals(980, objectMapper.readValue(yen, MenuItemResponseDto.class).getPrice());
+        assertEquals(1250, objectMapper.readValue(dinar, MenuItemResponseDto.class).getPrice());
+        // The currency may follow the price.
+        assertEquals(1250, objectMapper.readValue("{\"name\":\"Kebab\",\"price\":1.25,\"currency\":\"KWD\"}", MenuItemDto.class).getPrice());
+        assertThrows(InvalidFormatException.class,
+                () -> objectMapper.readValue("{\"name\":\"Ramen\",\"price\":980.5,\"currency\":\"JPY\"}", MenuItemDto.class));
+    }
+
+    @Test
+    void testJsonAcceptsIntegerAndStringPrices() throws Exception {
+        assertEquals(19900, objectMapper.readValue("{\"name\":\"Pasta\",\"price\":199}", MenuItemDto.class).getPrice());
+        assertEquals(19950, objectMapper.readValue("{\"name\":\"Pasta\",\"price\":\"199.5\"}", MenuItemDto.class).getPrice());
+    }
+
+    @Test
+    void testJsonRejectsTooManyFractionDigits() {
+        assertThrows(InvalidFormatException.class,
+                () -> objectMapper.readValue("{\"name\":\"Pasta\",\"price\":199.999}", MenuItemDto.class));
+    }
+
+    private static long parse(String text) {
+        return PriceFormat.parse(text.toCharArray(), 0, text.length(), 2);
+    }
+}
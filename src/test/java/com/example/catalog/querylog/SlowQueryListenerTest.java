@@ -0,0 +1,95 @@
+package com.example.catalog.querylog;
+
+import com.example.catalog.Dto.QueryStatsDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowQueryListenerTest {
+    private static final String SELECT_MENU = "select m.id, m.name from menu_items m where m.restaurant_id=? and m.name=?";
+    private static final String SELECT_RESTAURANT = "select r.id from restaurants r where r.id=?";
+
+    private final List<String> logged = new ArrayList<>();
+    private QueryStats queryStats;
+    private SlowQueryListener listener;
+
+    @BeforeEach
+    void setUp() {
+        queryStats = new QueryStats(2);
+        listener = new SlowQueryListener(100, queryStats, logged::add);
+    }
+
+    @Test
+    void testOnlySlowStatementsAreLogged() throws Exception {
+        QueryInfo query = new QueryInfo(SELECT_MENU);
+        query.getParametersList().add(List.of(
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setLong", int.class, long.class), new Object[]{1, 7L}),
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setNull", int.class, int.class), new Object[]{2, Types.VARCHAR})));
+
+        listener.afterQuery(execution(20, true), List.of(query));
+        listener.afterQuery(execution(150, true), List.of(query));
+
+        assertEquals(1, logged.size());
+        JsonNode entry = new ObjectMapper().readTree(logged.get(0));
+        assertEquals("slow_query", entry.get("type").asText());
+        assertEquals(150, entry.get("elapsedMillis").asLong());
+        assertEquals("SlowQueryListenerTest.testOnlySlowStatementsAreLogged", entry.get("caller").asText());
+        JsonNode loggedQuery = entry.get("queries").get(0);
+        assertEquals(SELECT_MENU, loggedQuery.get("sql").asText());
+        assertEquals("Long", loggedQuery.get("parameters").get(0).asText());
+        assertEquals("null", loggedQuery.get("parameters").get(1).asText());
+    }
+
+    @Test
+    void testStatsAggregatePerStatement() {
+        listener.afterQuery(execution(20, true), List.of(new QueryInfo(SELECT_MENU)));
+        listener.afterQuery(execution(40, false), List.of(new QueryInfo(SELECT_MENU)));
+        listener.afterQuery(execution(5, true), List.of(new QueryInfo(SELECT_RESTAURANT)));
+
+        List<QueryStatsDto> top = queryStats.top(10);
+
+        assertEquals(2, top.size());
+        QueryStatsDto menu = top.get(0);
+        assertEquals(SELECT_MENU, menu.getSql());
+        assertEquals(2, menu.getCount());
+        assertEquals(1, menu.getFailures());
+        assertEquals(60, menu.getTotalMillis());
+        assertEquals(40, menu.getMaxMillis());
+        assertEquals(30.0, menu.getMeanMillis());
+    }
+
+    @Test
+    void testStatementsBeyondTheCapShareTheOverflowEntry() {
+        listener.afterQuery(execution(1, true), List.of(new QueryInfo(SELECT_MENU)));
+        listener.afterQuery(execution(1, true), List.of(new QueryInfo(SELECT_RESTAURANT)));
+        listener.afterQuery(execution(3, true), List.of(new QueryInfo("select 1")));
+        listener.afterQuery(execution(3, true), List.of(new QueryInfo("select 2")));
+
+        assertEquals(3, queryStats.size());
+        QueryStatsDto overflow = queryStats.top(1).get(0);
+        assertEquals(QueryStats.OVERFLOW_KEY, overflow.getSql());
+        assertEquals(2, overflow.getCount());
+
+        queryStats.reset();
+        assertEquals(0, queryStats.size());
+    }
+
+    private ExecutionInfo execution(long elapsedMillis, boolean success) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setDataSourceName("dataSource");
+        executionInfo.setElapsedTime(elapsedMillis);
+        executionInfo.setSuccess(success);
+        return executionInfo;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.catalog.reactive;
+
+import com.example.catalog.Dto.MenuItemResponseDto;
+import com.example.catalog.Dto.RestaurantSummaryDto;
+import com.example.catalog.Exceptions.MenuItemNotFoundException;
+import com.example.catalog.Exceptions.RestaurantNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class ReactiveCatalogServiceTest {
+
+    @InjectMocks
+    private ReactiveCatalogService reactiveCatalogService;
+
+    @Mock
+    private ReactiveCatalogRepository catalogRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testGetAllRestaurantsLoadsMenusOneChunkAtATime() {
+        int restaurants = ReactiveCatalogService.MENU_CHUNK_SIZE + 1;
+        when(catalogRepository.findAllSummaries()).thenReturn(Flux.fromStream(LongStream.rangeClosed(1, restaurants)
+                .mapToObj(id -> new RestaurantSummaryDto(id, "Restaurant " + id, "Address " + id))));
+        when(catalogRepository.findMenuItemsByRestaurantIdIn(anyCollection()))
+                .thenReturn(Flux.just(new MenuItemResponseDto(1L, "Pasta", 199, "INR", 1L)))
+                .thenReturn(Flux.empty());
+
+        StepVerifier.create(reactiveCatalogService.getAllRestaurants())
+                .expectNextMatches(restaurant -> restaurant.getId() == 1L && restaurant.getMenuItems().size() == 1)
+                .expectNextCount(restaurants - 1)
+                .verifyComplete();
+
+        verify(catalogRepository, times(2)).findMenuItemsByRestaurantIdIn(anyCollection());
+    }
+
+    @Test
+    void testGetAllRestaurantsLoadsTheNextChunkOnlyOnDemand() {
+        int restaurants = ReactiveCatalogService.MENU_CHUNK_SIZE * 3;
+        when(catalogRepository.findAllSummaries()).thenReturn(Flux.fromStream(LongStream.rangeClosed(1, restaurants)
+                .mapToObj(id -> new RestaurantSummaryDto(id, "Restaurant " + id, "Address " + id))));
+        when(catalogRepository.findMenuItemsByRestaurantIdIn(anyCollection())).thenReturn(Flux.empty());
+
+        StepVerifier.create(reactiveCatalogService.getAllRestaurants(), 1)
+                .expectNextCount(1)
+                .thenCancel()
+                .verify();
+
+        verify(catalogRepository, times(1)).findMenuItemsByRestaurantIdIn(anyCollection());
+    }
+
+    @Test
+    void testGetRestaurantByIdNotFound() {
+        when(catalogRepository.findSummaryById(999L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(reactiveCatalogService.getRestaurantById(999L))
+                .expectErrorMatches(error -> error instanceof RestaurantNotFoundException
+                        && error.getMessage().equals("Restaurant with id '999' not found"))
+                .verify();
+    }
+
+    @Test
+    void testGetAllMenuItems() {
+        when(catalogRepository.findSummaryById(1L)).thenReturn(Mono.just(new RestaurantSummaryDto(1L, "Pizza Hut", "Bengaluru")));
+        when(catalogRepository.findMenuItemsByRestaurantId(1L)).thenReturn(Flux.fromIterable(List.of(
+                new MenuItemResponseDto(1L, "Pasta", 199, "INR", 1L),
+                new MenuItemResponseDto(2L, "Pizza", 299, "INR", 1L))));
+
+        StepVerifier.create(reactiveCatalogService.getAllMenuItems(1L))
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetAllMenuItemsRestaurantNotFound() {
+        when(catalogRepository.findSummaryById(999L)).thenReturn(Mono.empty());
+        when(catalogRepository.findMenuItemsByRestaurantId(999L)).thenReturn(Flux.empty());
+
+        StepVerifier.create(reactiveCatalogService.getAllMenuItems(999L))
+                .expectErrorMatches(error -> error instanceof RestaurantNotFoundException
+                        && error.getMessage().equals("Restaurant with ID '999' not found"))
+                .verify();
+    }
+
+    @Test
+    void testGetMenuItemByIdMenuItemNotFound() {
+        when(catalogRepository.findSummaryById(1L)).thenReturn(Mono.just(new RestaurantSummaryDto(1L, "Pizza Hut", "Bengaluru")));
+        when(catalogRepository.findMenuItemByIdAndRestaurantId(999L, 1L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(reactiveCatalogService.getMenuItemById(999L, 1L))
+                .expectErrorMatches(error -> error instanceof MenuItemNotFoundException
+                        && error.getMessage().equals("Menu item with ID '999' not found for restaurant with ID '1'"))
+                .verify();
+    }
+}
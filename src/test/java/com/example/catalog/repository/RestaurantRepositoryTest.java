@@ -0,0 +1,63 @@
+package com.example.catalog.repository;
+
+import com.example.catalog.model.Restaurant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RestaurantRepositoryTest {
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long restaurantId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        restaurantId = transactionTemplate.execute(status -> {
+            Long id = restaurantRepository.save(new Restaurant("Burger King", "Hyderabad")).getId();
+            restaurantRepository.createMenuVersion(id);
+            return id;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> restaurantRepository.deleteAllInBatch());
+    }
+
+    @Test
+    void testMenuChangeIsCountedEvenWhenTheVersionReadEarlierIsStale() {
+        TransactionTemplate concurrentWriter = new TransactionTemplate(transactionManager);
+        concurrentWriter.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            long versionRead = restaurantRepository.findVersionById(restaurantId).orElseThrow().getVersion();
+            concurrentWriter.executeWithoutResult(inner -> restaurantRepository.recordMenuChange(restaurantId));
+            assertEquals(0, versionRead);
+
+            restaurantRepository.recordMenuChange(restaurantId);
+        });
+
+        assertEquals(2, restaurantRepository.findVersionById(restaurantId).orElseThrow().getVersion());
+    }
+}
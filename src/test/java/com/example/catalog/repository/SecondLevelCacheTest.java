@@ -0,0 +1,167 @@
+package com.example.catalog.repository;
+
+import com.example.catalog.Dto.MenuItemResponseDto;
+import com.example.catalog.config.CacheConfig;
+import com.example.catalog.model.Restaurant;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Counts the statements the read paths send to the database once the second-level cache is warm. Every
+ * step runs in its own committed transaction, as the endpoints do.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    private static final int MENU_ITEMS = 5;
+    private static final int READS = 10;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Long restaurantId;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        restaurantId = transactionTemplate.execute(status -> {
+            Restaurant restaurant = new Restaurant("Burger King", "Hyderabad");
+            for (int i = 0; i < MENU_ITEMS; i++) {
+                restaurant.addMenuItem("Dish " + i, 100 + i, null);
+            }
+            Long id = restaurantRepository.save(restaurant).getId();
+            restaurantRepository.createMenuVersion(id);
+            return id;
+        });
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAll();
+        sessionFactory.getCache().evictQueryRegions();
+        // Cache timestamps have millisecond resolution; data written in the same millisecond as a read
+        // is treated as stale by design.
+        Thread.sleep(5);
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            menuItemRepository.deleteAllInBatch();
+            restaurantRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    void testMenuQueryHitsTheDatabaseOnce() {
+        for (int i = 0; i < READS; i++) {
+            List<MenuItemResponseDto> menu = transactionTemplate.execute(status -> menuItemRepository.findByRestaurantId(restaurantId));
+            assertEquals(MENU_ITEMS, menu.size());
+        }
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(READS - 1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void testRestaurantAndItsMenuAreLoadedFromTheDatabaseOnce() {
+        for (int i = 0; i < READS; i++) {
+            int menuSize = transactionTemplate.execute(status -> restaurantRepository.findById(restaurantId).orElseThrow().getMenuItems().size());
+            assertEquals(MENU_ITEMS, menuSize);
+        }
+
+        // One select for the restaurant and one for its menu items; later reads come from the cache.
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(READS - 1, statistics.getCollectionCacheHitCount());
+    }
+
+    @Test
+    void testAddingAMenuItemInvalidatesCachedReads() {
+        transactionTemplate.execute(status -> menuItemRepository.findByRestaurantId(restaurantId));
+        transactionTemplate.execute(status -> restaurantRepository.findById(restaurantId).orElseThrow().getMenuItems().size());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Restaurant restaurant = restaurantRepository.findById(restaurantId).orElseThrow();
+            restaurant.addMenuItem("Fries", 99, null);
+        });
+
+        List<MenuItemResponseDto> menu = transactionTemplate.execute(status -> menuItemRepository.findByRestaurantId(restaurantId));
+        int menuSize = transactionTemplate.execute(status -> restaurantRepository.findById(restaurantId).orElseThrow().getMenuItems().size());
+        assertEquals(MENU_ITEMS + 1, menu.size());
+        assertEquals(MENU_ITEMS + 1, menuSize);
+    }
+
+    @Test
+    void testMenuVersionIsAlwaysReadFromTheDatabase() throws SQLException {
+        assertEquals(0, restaurantRepository.findVersionById(restaurantId).orElseThrow().getVersion());
+        // Another instance changes the menu; this instance has no cached copy of the version to go stale.
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("UPDATE restaurant_menu_versions SET version = 5 WHERE restaurant_id = ?")) {
+            statement.setLong(1, restaurantId);
+            statement.executeUpdate();
+        }
+        assertEquals(5, restaurantRepository.findVersionById(restaurantId).orElseThrow().getVersion());
+
+        transactionTemplate.executeWithoutResult(status -> restaurantRepository.recordMenuChange(restaurantId));
+
+        assertEquals(6, restaurantRepository.findVersionById(restaurantId).orElseThrow().getVersion());
+    }
+
+    @Test
+    void testMenuChangeLeavesOtherCachedRestaurantsAlone() {
+        Long otherRestaurantId = transactionTemplate.execute(status -> {
+            Long id = restaurantRepository.save(new Restaurant("Pizza Hut", "Bengaluru")).getId();
+            restaurantRepository.createMenuVersion(id);
+            return id;
+        });
+        transactionTemplate.execute(status -> restaurantRepository.findById(otherRestaurantId).orElseThrow().getMenuItems().size());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            restaurantRepository.findById(restaurantId).orElseThrow().addMenuItem("Fries", 99, null);
+            restaurantRepository.recordMenuChange(restaurantId);
+        });
+        statistics.clear();
+        transactionTemplate.execute(status -> restaurantRepository.findById(otherRestaurantId).orElseThrow().getMenuItems().size());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics(CacheConfig.RESTAURANT_REGION).getHitCount());
+        assertEquals(1, statistics.getCollectionCacheHitCount());
+    }
+}
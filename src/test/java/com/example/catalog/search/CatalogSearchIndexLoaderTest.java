@@ -0,0 +1,54 @@
+package com.example.catalog.search;
+
+import com.example.catalog.Dto.MenuItemResponseDto;
+import com.example.catalog.event.MenuItemAddedEvent;
+import com.example.catalog.service.MenuItemService;
+import com.example.catalog.service.RestaurantService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+class CatalogSearchIndexLoaderTest {
+
+    @Mock
+    private RestaurantService restaurantService;
+
+    @Mock
+    private MenuItemService menuItemService;
+
+    private CatalogSearchIndex searchIndex;
+    private CatalogSearchIndexLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        searchIndex = new CatalogSearchIndex(100);
+        loader = new CatalogSearchIndexLoader(searchIndex, restaurantService, menuItemService);
+    }
+
+    @Test
+    void testEventsDuringLoadAreReplayedEvenBelowTheLastStreamedId() {
+        doAnswer(invocation -> {
+            Consumer<MenuItemResponseDto> consumer = invocation.getArgument(0);
+            consumer.accept(new MenuItemResponseDto(60L, "Pasta", 19900, "INR", 1L));
+            // Committed during the load with an id from an earlier sequence block.
+            loader.onMenuItemAdded(new MenuItemAddedEvent(1L, 12L, "Tiramisu", 29900, "INR"));
+            // Already streamed above; must not be indexed twice.
+            loader.onMenuItemAdded(new MenuItemAddedEvent(1L, 60L, "Pasta", 19900, "INR"));
+            return null;
+        }).when(menuItemService).streamMenuItems(any());
+
+        loader.load();
+
+        assertEquals(2, searchIndex.size());
+        assertEquals(12L, searchIndex.search("tiramisu", 10).get(0).getMenuItemId());
+        assertEquals(1, searchIndex.search("pasta", 10).size());
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.catalog.search;
+
+import com.example.catalog.Dto.SearchResultDto;
+import com.example.catalog.Dto.SearchResultType;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogSearchIndexTest {
+
+    private CatalogSearchIndex searchIndex;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+        searchIndex = new CatalogSearchIndex(100);
+        searchIndex.addRestaurant(1L, "Pizza Hut");
+        searchIndex.addMenuItem(1L, 10L, "Margherita Pizza");
+        searchIndex.addMenuItem(1L, 11L, "Pepperoni Pizza");
+        searchIndex.addMenuItem(2L, 20L, "Paneer Tikka");
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.removeRegistry(meterRegistry);
+    }
+
+    @Test
+    void testSearchMatchesLastTokenAsPrefix() {
+        List<SearchResultDto> results = searchIndex.search("pep", 10);
+
+        assertEquals(1, results.size());
+        assertEquals(SearchResultType.MENU_ITEM, results.get(0).getType());
+        assertEquals(11L, results.get(0).getMenuItemId());
+    }
+
+    @Test
+    void testSearchRequiresEveryToken() {
+        List<SearchResultDto> results = searchIndex.search("Pizza marg", 10);
+
+        assertEquals(1, results.size());
+        assertEquals("Margherita Pizza", results.get(0).getName());
+    }
+
+    @Test
+    void testSearchIsCaseInsensitiveAndReturnsInsertionOrder() {
+        List<SearchResultDto> results = searchIndex.search("PIZZA", 10);
+
+        assertEquals(List.of("Pizza Hut", "Margherita Pizza", "Pepperoni Pizza"),
+                results.stream().map(SearchResultDto::getName).toList());
+    }
+
+    @Test
+    void testSearchHonoursLimit() {
+        assertEquals(2, searchIndex.search("p", 2).size());
+    }
+
+    @Test
+    void testSearchMergesEveryTermUnderAPrefix() {
+        CatalogSearchIndex large = new CatalogSearchIndex(1000);
+        for (long id = 1; id <= 300; id++) {
+            large.addMenuItem(1L, id, (id == 300 ? "Special " : "") + String.format("Dosa%03d", id));
+        }
+
+        List<SearchResultDto> results = large.search("dosa", 1000);
+        assertEquals(300, results.size());
+        assertEquals(List.of(1L, 2L), results.subList(0, 2).stream().map(SearchResultDto::getMenuItemId).toList());
+
+        // The only match sits under the 300th term, past any cut-off by term count.
+        List<SearchResultDto> special = large.search("special dosa", 10);
+        assertEquals(1, special.size());
+        assertEquals(300L, special.get(0).getMenuItemId());
+    }
+
+    @Test
+    void testSearchCombinesSeveralExactTokens() {
+        searchIndex.addMenuItem(1L, 12L, "Pizza Pizza Special");
+
+        List<SearchResultDto> results = searchIndex.search("special pizza hut", 10);
+        assertTrue(results.isEmpty());
+        assertEquals(List.of(12L), searchIndex.search("pizza special", 10).stream().map(SearchResultDto::getMenuItemId).toList());
+    }
+
+    @Test
+    void testSearchWithUnknownTokenReturnsNothing() {
+        assertTrue(searchIndex.search("sushi p", 10).isEmpty());
+        assertTrue(searchIndex.search("  ", 10).isEmpty());
+    }
+
+    @Test
+    void testIndexStopsAcceptingDocumentsAtCapacity() {
+        CatalogSearchIndex small = new CatalogSearchIndex(1);
+
+        assertTrue(small.addRestaurant(1L, "Pizza Hut"));
+        assertFalse(small.addRestaurant(2L, "Burger King"));
+        assertFalse(small.addMenuItem(1L, 10L, "Margherita Pizza"));
+        assertEquals(1, small.size());
+        assertEquals(2.0, meterRegistry.get(CatalogSearchIndex.DROPPED_METRIC).counter().count());
+    }
+
+    @Test
+    void testAddingAnIndexedIdAgainIsANoOp() {
+        assertFalse(searchIndex.addMenuItem(1L, 10L, "Margherita Pizza"));
+        assertFalse(searchIndex.addRestaurant(1L, "Pizza Hut"));
+        assertTrue(searchIndex.addRestaurant(10L, "Pizza Corner"));
+
+        assertEquals(5, searchIndex.size());
+        assertEquals(1, searchIndex.search("margherita", 10).size());
+    }
+
+    @Test
+    void testTokenizeSplitsOnPunctuationAndDropsDuplicates() {
+        assertEquals(List.of("fish", "chips"), CatalogSearchIndex.tokenize("Fish & Chips, fish!"));
+    }
+}
@@ -0,0 +1,261 @@
+package com.example.catalog.service;
+
+import com.example.catalog.Dto.MenuItemResponseDto;
+import com.example.catalog.Dto.RestaurantResponseDto;
+import com.example.catalog.Dto.RestaurantSummaryDto;
+import com.example.catalog.Exceptions.RestaurantNotFoundException;
+import com.example.catalog.config.CacheConfig;
+import com.example.catalog.datasource.ReadYourWrites;
+import com.example.catalog.model.Restaurant;
+import com.example.catalog.repository.MenuItemRepository;
+import com.example.catalog.repository.RestaurantRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(CatalogCachingTest.Config.class)
+class CatalogCachingTest {
+
+    @Configuration
+    @EnableCaching
+    static class Config {
+        @Bean
+        RestaurantRepository restaurantRepository() {
+            return mock(RestaurantRepository.class);
+        }
+
+        @Bean
+        MenuItemRepository menuItemRepository() {
+            return mock(MenuItemRepository.class);
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return mock(PlatformTransactionManager.class);
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager();
+        }
+
+        @Bean
+        TransactionalEventListenerFactory transactionalEventListenerFactory() {
+            return new TransactionalEventListenerFactory();
+        }
+
+        @Bean
+        TaskScheduler taskScheduler() {
+            return mock(TaskScheduler.class);
+        }
+
+        @Bean
+        CatalogCacheEvictor catalogCacheEvictor(CacheManager cacheManager, TaskScheduler taskScheduler) {
+            EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+            when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(mock(SessionFactory.class));
+            return new CatalogCacheEvictor(cacheManager, entityManagerFactory, taskScheduler, Duration.ofSeconds(5));
+        }
+
+        @Bean
+        RestaurantService restaurantService(RestaurantRepository restaurantRepository, MenuItemRepository menuItemRepository,
+                                            ApplicationEventPublisher eventPublisher) {
+            return new RestaurantService(restaurantRepository, menuItemRepository, eventPublisher, 500, 1000);
+        }
+
+        @Bean
+        MenuItemService menuItemService(MenuItemRepository menuItemRepository, RestaurantRepository restaurantRepository,
+                                        ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager) {
+            return new MenuItemService(menuItemRepository, restaurantRepository, eventPublisher, transactionManager);
+        }
+    }
+
+    @Autowired
+    private RestaurantService restaurantService;
+
+    @Autowired
+    private MenuItemService menuItemService;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    private Restaurant restaurant;
+
+    @BeforeEach
+    void setUp() {
+        reset(restaurantRepository, menuItemRepository, taskScheduler);
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        restaurant = new Restaurant("Burger King", "Hyderabad");
+        ReflectionTestUtils.setField(restaurant, "id", 1L);
+    }
+
+    @Test
+    void testGetRestaurantByIdIsServedFromCache() {
+        when(restaurantRepository.findSummaryById(1L)).thenReturn(Optional.of(summaryOf(restaurant)));
+
+        RestaurantResponseDto first = restaurantService.getRestaurantById(1L);
+        RestaurantResponseDto second = restaurantService.getRestaurantById(1L);
+
+        assertSame(first, second);
+        verify(restaurantRepository, times(1)).findSummaryById(1L);
+    }
+
+    @Test
+    void testAddRestaurantEvictsOnlyTheSavedRestaurant() {
+        Restaurant other = new Restaurant("Pizza Hut", "Bengaluru");
+        ReflectionTestUtils.setField(other, "id", 2L);
+        when(restaurantRepository.findSummaryById(1L)).thenReturn(Optional.of(summaryOf(restaurant)));
+        when(restaurantRepository.findSummaryById(2L)).thenReturn(Optional.of(summaryOf(other)));
+        when(restaurantRepository.saveAndFlush(any(Restaurant.class))).thenReturn(other);
+
+        restaurantService.getRestaurantById(1L);
+        restaurantService.getRestaurantById(2L);
+        restaurantService.addRestaurant("Pizza Hut", "Bengaluru");
+        restaurantService.getRestaurantById(1L);
+        restaurantService.getRestaurantById(2L);
+
+        verify(restaurantRepository, times(1)).findSummaryById(1L);
+        verify(restaurantRepository, times(2)).findSummaryById(2L);
+    }
+
+    @Test
+    void testAddMenuItemEvictsMenuAndRestaurantEntries() {
+        when(restaurantRepository.findById(1L)).thenReturn(Optional.of(restaurant));
+        when(restaurantRepository.findSummaryById(1L)).thenReturn(Optional.of(summaryOf(restaurant)));
+        when(menuItemRepository.findByRestaurantId(1L)).thenReturn(List.of(new MenuItemResponseDto(1L, "Pasta", 199, "INR", 1L)));
+
+        menuItemService.getAllMenuItems(1L);
+        menuItemService.getAllMenuItems(1L);
+        restaurantService.getRestaurantById(1L);
+        menuItemService.addMenuItem(1L, "Pizza", 299, null);
+        menuItemService.getAllMenuItems(1L);
+        restaurantService.getRestaurantById(1L);
+
+        verify(restaurantRepository, times(2)).findSummaryById(1L);
+        verify(menuItemRepository, times(4)).findByRestaurantId(1L);
+    }
+
+    @Test
+    void testReadDuringAnUncommittedWriteIsEvictedOnCommit() {
+        when(restaurantRepository.findById(1L)).thenReturn(Optional.of(restaurant));
+        when(menuItemRepository.findByRestaurantId(1L)).thenReturn(List.of(new MenuItemResponseDto(1L, "Pasta", 199, "INR", 1L)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            menuItemService.addMenuItem(1L, "Pizza", 299, null);
+            // A concurrent miss before the commit still sees the old menu and caches it.
+            menuItemService.getAllMenuItems(1L);
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        menuItemService.getAllMenuItems(1L);
+
+        verify(menuItemRepository, times(2)).findByRestaurantId(1L);
+    }
+
+    @Test
+    void testWritesScheduleADelayedReEviction() {
+        when(restaurantRepository.findById(1L)).thenReturn(Optional.of(restaurant));
+        when(menuItemRepository.findByRestaurantId(1L)).thenReturn(List.of(new MenuItemResponseDto(1L, "Pasta", 199, "INR", 1L)));
+        ArgumentCaptor<Runnable> reEviction = ArgumentCaptor.forClass(Runnable.class);
+
+        menuItemService.addMenuItem(1L, "Pizza", 299, null);
+        menuItemService.addMenuItem(1L, "Burger", 149, null);
+        verify(taskScheduler, times(1)).schedule(reEviction.capture(), any(Instant.class));
+
+        // A read that overlapped the commit cached what it saw; the delayed pass drops it again.
+        menuItemService.getAllMenuItems(1L);
+        reEviction.getValue().run();
+        menuItemService.getAllMenuItems(1L);
+
+        verify(menuItemRepository, times(2)).findByRestaurantId(1L);
+    }
+
+    @Test
+    void testReadYourWritesBypassesTheCaches() {
+        when(restaurantRepository.findSummaryById(1L)).thenReturn(Optional.of(summaryOf(restaurant)));
+        when(restaurantRepository.findById(1L)).thenReturn(Optional.of(restaurant));
+        when(menuItemRepository.findByRestaurantId(1L)).thenReturn(List.of(new MenuItemResponseDto(1L, "Pasta", 199, "INR", 1L)));
+        restaurantService.getRestaurantById(1L);
+        menuItemService.getAllMenuItems(1L);
+
+        ReadYourWrites.begin();
+        try {
+            restaurantService.getRestaurantById(1L);
+            menuItemService.getAllMenuItems(1L);
+        } finally {
+            ReadYourWrites.end();
+        }
+        verify(restaurantRepository, times(2)).findSummaryById(1L);
+        verify(menuItemRepository, times(4)).findByRestaurantId(1L);
+
+        // Nor did those reads replace what was cached.
+        cacheManager.getCache(CacheConfig.RESTAURANTS).clear();
+        cacheManager.getCache(CacheConfig.MENU_ITEMS).clear();
+        ReadYourWrites.begin();
+        try {
+            restaurantService.getRestaurantById(1L);
+            menuItemService.getAllMenuItems(1L);
+        } finally {
+            ReadYourWrites.end();
+        }
+        restaurantService.getRestaurantById(1L);
+        menuItemService.getAllMenuItems(1L);
+
+        verify(restaurantRepository, times(4)).findSummaryById(1L);
+        verify(menuItemRepository, times(8)).findByRestaurantId(1L);
+    }
+
+    @Test
+    void testFailedLookupsAreNotCached() {
+        when(restaurantRepository.findSummaryById(999L)).thenReturn(Optional.empty());
+
+        assertThrows(RestaurantNotFoundException.class, () -> restaurantService.getRestaurantById(999L));
+        assertThrows(RestaurantNotFoundException.class, () -> restaurantService.getRestaurantById(999L));
+
+        verify(restaurantRepository, times(2)).findSummaryById(999L);
+    }
+
+    private RestaurantSummaryDto summaryOf(Restaurant restaurant) {
+        return new RestaurantSummaryDto(restaurant.getId(), restaurant.getName(), restaurant.getAddress());
+    }
+}
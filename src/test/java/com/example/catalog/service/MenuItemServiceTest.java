@@ -1,21 +1,36 @@
 package com.example.catalog.service;
 
+import com.example.catalog.Dto.BulkMenuItemImportResponse;
+import com.example.catalog.Dto.BulkMenuItemStatus;
+import com.example.catalog.Dto.MenuBatchResultDto;
+import com.example.catalog.Dto.MenuBatchStatus;
+import com.example.catalog.Dto.MenuItemDto;
+import com.example.catalog.Dto.MenuItemPage;
+import com.example.catalog.Dto.MenuItemResponseDto;
+import com.example.catalog.Dto.RestaurantVersionDto;
 import com.example.catalog.Exceptions.*;
+import com.example.catalog.event.MenuItemAddedEvent;
 import com.example.catalog.model.MenuItem;
 import com.example.catalog.model.Restaurant;
 import com.example.catalog.repository.MenuItemRepository;
 import com.example.catalog.repository.RestaurantRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.sql.SQLException;
+import java.time.Instant;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -30,6 +45,12 @@ public class MenuItemServiceTest {
     @Mock
     private RestaurantRepository restaurantRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private Restaurant restaurant;
 
     @BeforeEach
@@ -42,12 +63,11 @@ public class MenuItemServiceTest {
     void testAddMenuItem() {
         when(restaurantRepository.findById(restaurant.getId()))
                 .thenReturn(Optional.of(restaurant));
-        when(menuItemRepository.findByNameAndRestaurantId("Pasta", restaurant.getId()))
-                .thenReturn(Optional.empty());
 
-        menuItemService.addMenuItem(restaurant.getId(), "Pasta", 199);
+        menuItemService.addMenuItem(restaurant.getId(), "Pasta", 199, null);
 
-        verify(menuItemRepository, times(1)).save(any(MenuItem.class));
+        verify(menuItemRepository, times(1)).saveAndFlush(any(MenuItem.class));
+        verify(eventPublisher, times(1)).publishEvent(any(MenuItemAddedEvent.class));
     }
 
     @Test
@@ -59,10 +79,10 @@ public class MenuItemServiceTest {
                 .thenReturn(Optional.of(restaurant));
 
         MenuItemNameCannotBeNullOrEmptyException exception = assertThrows(MenuItemNameCannotBeNullOrEmptyException.class, () ->
-                menuItemService.addMenuItem(restaurant.getId(), itemName, price));
+                menuItemService.addMenuItem(restaurant.getId(), itemName, price, null));
 
         assertEquals("Menu item name cannot be null or empty", exception.getMessage());
-        verify(menuItemRepository, never()).save(any(MenuItem.class));
+        verify(menuItemRepository, never()).saveAndFlush(any(MenuItem.class));
     }
 
     @Test
@@ -72,14 +92,12 @@ public class MenuItemServiceTest {
 
         when(restaurantRepository.findById(restaurant.getId()))
                 .thenReturn(Optional.of(restaurant));
-        when(menuItemRepository.findByNameAndRestaurantId(itemName, restaurant.getId()))
-                .thenReturn(Optional.empty());
 
         PriceMustBePositiveException exception = assertThrows(PriceMustBePositiveException.class, () ->
-                menuItemService.addMenuItem(restaurant.getId(), itemName, price));
+                menuItemService.addMenuItem(restaurant.getId(), itemName, price, null));
 
         assertEquals("Price must be positive", exception.getMessage());
-        verify(menuItemRepository, never()).save(any(MenuItem.class));
+        verify(menuItemRepository, never()).saveAndFlush(any(MenuItem.class));
     }
 
     @Test
@@ -89,14 +107,12 @@ public class MenuItemServiceTest {
 
         when(restaurantRepository.findById(restaurant.getId()))
                 .thenReturn(Optional.of(restaurant));
-        when(menuItemRepository.findByNameAndRestaurantId(itemName, restaurant.getId()))
-                .thenReturn(Optional.empty());
 
         PriceMustBePositiveException exception = assertThrows(PriceMustBePositiveException.class, () ->
-                menuItemService.addMenuItem(restaurant.getId(), itemName, price));
+                menuItemService.addMenuItem(restaurant.getId(), itemName, price, null));
 
         assertEquals("Price must be positive", exception.getMessage());
-        verify(menuItemRepository, never()).save(any(MenuItem.class));
+        verify(menuItemRepository, never()).saveAndFlush(any(MenuItem.class));
     }
 
     @Test
@@ -105,37 +121,38 @@ public class MenuItemServiceTest {
                 .thenReturn(Optional.empty());
 
         RestaurantNotFoundException exception = assertThrows(RestaurantNotFoundException.class, () ->
-                menuItemService.addMenuItem(999L, "Pasta", 199));
+                menuItemService.addMenuItem(999L, "Pasta", 199, null));
 
         assertThat(exception.getMessage()).isEqualTo("Restaurant with ID '999' not found");
-        verify(menuItemRepository, times(0)).save(any(MenuItem.class));
+        verify(menuItemRepository, times(0)).saveAndFlush(any(MenuItem.class));
     }
 
     @Test
     public void testAddMenuItemAlreadyExists() {
         when(restaurantRepository.findById(restaurant.getId()))
                 .thenReturn(Optional.of(restaurant));
-        when(menuItemRepository.findByNameAndRestaurantId("Pasta", restaurant.getId()))
-                .thenReturn(Optional.of(new MenuItem("Pasta", 199)));
+        when(menuItemRepository.saveAndFlush(any(MenuItem.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement",
+                        new ConstraintViolationException("duplicate key", new SQLException(), MenuItem.UNIQUE_RESTAURANT_NAME)));
 
         MenuItemAlreadyExistsException exception = assertThrows(MenuItemAlreadyExistsException.class, () ->
-                menuItemService.addMenuItem(restaurant.getId(), "Pasta", 199));
+                menuItemService.addMenuItem(restaurant.getId(), "Pasta", 199, null));
 
         assertThat(exception.getMessage()).isEqualTo("Menu item 'Pasta' already exists for restaurant with ID '" + restaurant.getId() + "'");
-        verify(menuItemRepository, times(0)).save(any(MenuItem.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
     void testGetAllMenuItems() {
         when(restaurantRepository.findById(restaurant.getId())).thenReturn(Optional.of(restaurant));
 
-        List<MenuItem> menuItems = Arrays.asList(
-                new MenuItem("Pasta", 199),
-                new MenuItem("Pizza", 299)
+        List<MenuItemResponseDto> menuItems = Arrays.asList(
+                new MenuItemResponseDto(1L, "Pasta", 199, "INR", restaurant.getId()),
+                new MenuItemResponseDto(2L, "Pizza", 299, "INR", restaurant.getId())
         );
         when(menuItemRepository.findByRestaurantId(restaurant.getId())).thenReturn(menuItems);
 
-        List<MenuItem> result = menuItemService.getAllMenuItems(restaurant.getId());
+        List<MenuItemResponseDto> result = menuItemService.getAllMenuItems(restaurant.getId());
 
         assertEquals(2, result.size());
         verify(menuItemRepository, times(1)).findByRestaurantId(restaurant.getId());
@@ -154,14 +171,14 @@ public class MenuItemServiceTest {
 
     @Test
     void testGetMenuItemById() {
-        MenuItem menuItem = new MenuItem("Pasta", 199);
+        MenuItemResponseDto menuItem = new MenuItemResponseDto(1L, "Pasta", 199, "INR", restaurant.getId());
         when(restaurantRepository.findById(restaurant.getId())).thenReturn(Optional.of(restaurant));
-        when(menuItemRepository.findById(menuItem.getId())).thenReturn(Optional.of(menuItem));
+        when(menuItemRepository.findByIdAndRestaurantId(menuItem.getId(), restaurant.getId())).thenReturn(Optional.of(menuItem));
 
-        MenuItem result = menuItemService.getMenuItemById(menuItem.getId(), restaurant.getId());
+        MenuItemResponseDto result = menuItemService.getMenuItemById(menuItem.getId(), restaurant.getId());
 
         assertEquals(menuItem, result);
-        verify(menuItemRepository, times(1)).findById(menuItem.getId());
+        verify(menuItemRepository, times(1)).findByIdAndRestaurantId(menuItem.getId(), restaurant.getId());
     }
 
     @Test
@@ -172,19 +189,215 @@ public class MenuItemServiceTest {
                 menuItemService.getMenuItemById(1L, 999L));
 
         assertEquals("Restaurant with ID '999' not found", exception.getMessage());
-        verify(menuItemRepository, never()).findById(anyLong());
+        verify(menuItemRepository, never()).findByIdAndRestaurantId(anyLong(), anyLong());
     }
 
     @Test
     void testGetMenuItemByIdMenuItemNotFound() {
         when(restaurantRepository.findById(restaurant.getId())).thenReturn(Optional.of(restaurant));
 
-        when(menuItemRepository.findById(999L)).thenReturn(Optional.empty());
+        when(menuItemRepository.findByIdAndRestaurantId(999L, restaurant.getId())).thenReturn(Optional.empty());
 
         MenuItemNotFoundException exception = assertThrows(MenuItemNotFoundException.class, () ->
                 menuItemService.getMenuItemById(999L, restaurant.getId()));
 
         assertEquals("Menu item with ID '999' not found for restaurant with ID '" + restaurant.getId() + "'", exception.getMessage());
-        verify(menuItemRepository, times(1)).findById(999L);
+        verify(menuItemRepository, times(1)).findByIdAndRestaurantId(999L, restaurant.getId());
+    }
+
+    @Test
+    void testAddMenuItemsReportsPerRowResults() {
+        List<MenuItemDto> menuItemDtos = Arrays.asList(
+                new MenuItemDto("Pasta", 19900, null),
+                new MenuItemDto("Pizza", 29900, null),
+                new MenuItemDto("Pasta", 14900, null),
+                new MenuItemDto("Burger", -1000, null),
+                new MenuItemDto(null, 9900, null)
+        );
+        when(restaurantRepository.findById(restaurant.getId())).thenReturn(Optional.of(restaurant));
+        when(menuItemRepository.findExistingNames(eq(restaurant.getId()), anyCollection())).thenReturn(List.of("Pizza"));
+
+        BulkMenuItemImportResponse response = menuItemService.addMenuItems(restaurant.getId(), menuItemDtos, false);
+
+        assertEquals(1, response.getInserted());
+        assertFalse(response.isRejected());
+        assertEquals(BulkMenuItemStatus.CREATED, response.getResults().get(0).getStatus());
+        assertEquals(BulkMenuItemStatus.DUPLICATE, response.getResults().get(1).getStatus());
+        assertEquals(BulkMenuItemStatus.DUPLICATE, response.getResults().get(2).getStatus());
+        assertEquals(BulkMenuItemStatus.INVALID, response.getResults().get(3).getStatus());
+        assertEquals("Price must be positive", response.getResults().get(3).getMessage());
+        assertEquals(BulkMenuItemStatus.INVALID, response.getResults().get(4).getStatus());
+        verify(menuItemRepository, times(1)).findExistingNames(eq(restaurant.getId()), anyCollection());
+        verify(menuItemRepository, times(1)).saveAllAndFlush(argThat((List<MenuItem> items) -> items.size() == 1));
+        verify(restaurantRepository, times(1)).recordMenuChange(restaurant.getId());
+    }
+
+    @Test
+    void testAddMenuItemsAtomicRejectsWholeBatch() {
+        List<MenuItemDto> menuItemDtos = Arrays.asList(
+                new MenuItemDto("Pasta", 19900, null),
+                new MenuItemDto("Pizza", 0, null)
+        );
+        when(restaurantRepository.findById(restaurant.getId())).thenReturn(Optional.of(restaurant));
+        when(menuItemRepository.findExistingNames(eq(restaurant.getId()), anyCollection())).thenReturn(List.of());
+
+        BulkMenuItemImportResponse response = menuItemService.addMenuItems(restaurant.getId(), menuItemDtos, true);
+
+        assertTrue(response.isRejected());
+        assertEquals(0, response.getInserted());
+        assertEquals(BulkMenuItemStatus.SKIPPED, response.getResults().get(0).getStatus());
+        assertEquals(BulkMenuItemStatus.INVALID, response.getResults().get(1).getStatus());
+        verify(menuItemRepository, never()).saveAllAndFlush(any());
+        verify(restaurantRepository, never()).recordMenuChange(any());
+    }
+
+    @Test
+    void testAddMenuItemsRestaurantNotFound() {
+        when(restaurantRepository.findById(999L)).thenReturn(Optional.empty());
+
+        RestaurantNotFoundException exception = assertThrows(RestaurantNotFoundException.class, () ->
+                menuItemService.addMenuItems(999L, List.of(new MenuItemDto("Pasta", 19900, null)), false));
+
+        assertEquals("Restaurant with ID '999' not found", exception.getMessage());
+        verify(menuItemRepository, never()).saveAllAndFlush(any());
+    }
+
+    @Test
+    void testAddMenuItemsAboveLimit() {
+        List<MenuItemDto> menuItemDtos = Collections.nCopies(MenuItemService.MAX_BULK_SIZE + 1, new MenuItemDto("Pasta", 19900, null));
+
+        assertThrows(BulkImportLimitExceededException.class, () ->
+                menuItemService.addMenuItems(restaurant.getId(), menuItemDtos, false));
+
+        verify(restaurantRepository, never()).findById(any());
+    }
+
+    @Test
+    void testAddMenuItemBumpsRestaurantVersion() {
+        when(restaurantRepository.findById(restaurant.getId())).thenReturn(Optional.of(restaurant));
+
+        menuItemService.addMenuItem(restaurant.getId(), "Pasta", 199, null);
+
+        verify(restaurantRepository, times(1)).recordMenuChange(restaurant.getId());
+    }
+
+    @Test
+    void testGetMenuVersion() {
+        RestaurantVersionDto version = new RestaurantVersionDto(1L, 4L, Instant.now());
+        when(restaurantRepository.findVersionById(1L)).thenReturn(Optional.of(version));
+
+        RestaurantVersionDto result = menuItemService.getMenuVersion(1L);
+
+        assertEquals("\"1-4\"", result.getETag());
+        verify(menuItemRepository, never()).findByRestaurantId(anyLong());
+    }
+
+    @Test
+    void testGetMenuVersionRestaurantNotFound() {
+        when(restaurantRepository.findVersionById(999L)).thenReturn(Optional.empty());
+
+        RestaurantNotFoundException exception = assertThrows(RestaurantNotFoundException.class, () ->
+                menuItemService.getMenuVersion(999L));
+
+        assertEquals("Restaurant with ID '999' not found", exception.getMessage());
+    }
+
+    @Test
+    void testGetMenuItemsForRestaurantsGroupsByRestaurant() {
+        when(restaurantRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L, 2L));
+        when(menuItemRepository.findByRestaurantIdIn(anyCollection())).thenReturn(List.of(
+                new MenuItemResponseDto(1L, "Pasta", 19900, "INR", 1L),
+                new MenuItemResponseDto(2L, "Pizza", 29900, "INR", 1L)));
+
+        Map<Long, MenuBatchResultDto> results = menuItemService.getMenuItemsForRestaurants(List.of(2L, 999L, 1L, 2L));
+
+        assertEquals(List.of(2L, 999L, 1L), new ArrayList<>(results.keySet()));
+        assertEquals(MenuBatchStatus.FOUND, results.get(1L).getStatus());
+        assertEquals(2, results.get(1L).getMenuItems().size());
+        assertEquals(MenuBatchStatus.FOUND, results.get(2L).getStatus());
+        assertTrue(results.get(2L).getMenuItems().isEmpty());
+        assertEquals(MenuBatchStatus.NOT_FOUND, results.get(999L).getStatus());
+        assertEquals("Restaurant with ID '999' not found", results.get(999L).getMessage());
+        verify(restaurantRepository, times(1)).findExistingIds(anyCollection());
+        verify(menuItemRepository, times(1)).findByRestaurantIdIn(anyCollection());
+        verify(restaurantRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void testGetMenuItemsForRestaurantsSkipsMenuQueryWhenNoneExist() {
+        when(restaurantRepository.findExistingIds(anyCollection())).thenReturn(List.of());
+
+        Map<Long, MenuBatchResultDto> results = menuItemService.getMenuItemsForRestaurants(List.of(999L));
+
+        assertEquals(MenuBatchStatus.NOT_FOUND, results.get(999L).getStatus());
+        verify(menuItemRepository, never()).findByRestaurantIdIn(anyCollection());
+    }
+
+    @Test
+    void testGetMenuItemsForRestaurantsRejectsTooManyIds() {
+        List<Long> restaurantIds = new ArrayList<>();
+        for (long id = 1; id <= MenuItemService.MAX_BATCH_GET_SIZE + 1; id++) {
+            restaurantIds.add(id);
+        }
+
+        InvalidBatchGetRequestException exception = assertThrows(InvalidBatchGetRequestException.class, () ->
+                menuItemService.getMenuItemsForRestaurants(restaurantIds));
+
+        assertEquals("Batch get accepts at most " + MenuItemService.MAX_BATCH_GET_SIZE + " restaurant IDs", exception.getMessage());
+        verify(restaurantRepository, never()).findExistingIds(anyCollection());
+    }
+
+    @Test
+    void testGetMenuItemsPageByPriceReturnsCursorForNextPage() {
+        when(restaurantRepository.findById(restaurant.getId())).thenReturn(Optional.of(restaurant));
+        when(menuItemRepository.findPageByPriceAsc(eq(restaurant.getId()), eq(10000L), eq(Long.MAX_VALUE),
+                eq(Long.MIN_VALUE), eq(Long.MIN_VALUE), any(Pageable.class))).thenReturn(List.of(
+                new MenuItemResponseDto(3L, "Pasta", 19900, "INR", restaurant.getId()),
+                new MenuItemResponseDto(1L, "Pizza", 29900, "INR", restaurant.getId()),
+                new MenuItemResponseDto(2L, "Lasagne", 29900, "INR", restaurant.getId())));
+
+        MenuItemPage page = menuItemService.getMenuItemsPage(restaurant.getId(), "100", null, "price", 2, null);
+
+        assertEquals(2, page.getMenuItems().size());
+        assertNotNull(page.getNextCursor());
+
+        when(menuItemRepository.findPageByPriceAsc(eq(restaurant.getId()), eq(10000L), eq(Long.MAX_VALUE),
+                eq(29900L), eq(1L), any(Pageable.class))).thenReturn(List.of(
+                new MenuItemResponseDto(2L, "Lasagne", 29900, "INR", restaurant.getId())));
+
+        MenuItemPage nextPage = menuItemService.getMenuItemsPage(restaurant.getId(), "100", null, "price", 2, page.getNextCursor());
+
+        assertEquals(1, nextPage.getMenuItems().size());
+        assertNull(nextPage.getNextCursor());
+    }
+
+    @Test
+    void testGetMenuItemsPageRejectsInvalidRequests() {
+        assertThrows(InvalidPageRequestException.class, () ->
+                menuItemService.getMenuItemsPage(1L, null, null, "name", null, null));
+        assertThrows(InvalidPageRequestException.class, () ->
+                menuItemService.getMenuItemsPage(1L, "300", "100", null, null, null));
+        assertThrows(InvalidPageRequestException.class, () ->
+                menuItemService.getMenuItemsPage(1L, "1.999", null, null, null, null));
+        assertThrows(InvalidPageRequestException.class, () ->
+                menuItemService.getMenuItemsPage(1L, null, null, null, MenuItemService.MAX_PAGE_SIZE + 1, null));
+        assertThrows(InvalidPageRequestException.class, () ->
+                menuItemService.getMenuItemsPage(1L, null, null, "price", null, "not-a-cursor"));
+        verify(restaurantRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void testGetMenuItemsPageRejectsCursorFromAnotherSort() {
+        when(restaurantRepository.findById(restaurant.getId())).thenReturn(Optional.of(restaurant));
+        when(menuItemRepository.findPageById(eq(restaurant.getId()), anyLong(), anyLong(), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(
+                        new MenuItemResponseDto(1L, "Pasta", 19900, "INR", restaurant.getId()),
+                        new MenuItemResponseDto(2L, "Pizza", 29900, "INR", restaurant.getId())));
+
+        String cursor = menuItemService.getMenuItemsPage(restaurant.getId(), null, null, null, 1, null).getNextCursor();
+
+        InvalidPageRequestException exception = assertThrows(InvalidPageRequestException.class, () ->
+                menuItemService.getMenuItemsPage(restaurant.getId(), null, null, "-price", 1, cursor));
+        assertEquals("Invalid cursor for sort '-price'", exception.getMessage());
     }
 }
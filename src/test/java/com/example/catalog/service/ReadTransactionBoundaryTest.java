@@ -0,0 +1,114 @@
+package com.example.catalog.service;
+
+import com.example.catalog.model.Restaurant;
+import com.example.catalog.repository.MenuItemRepository;
+import com.example.catalog.repository.RestaurantRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.LazyInitializationException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * With open-in-view off, controllers serialize service results after the service transaction has ended.
+ * Serializing them here, outside any transaction, must neither fail nor reach the database.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import({RestaurantService.class, MenuItemService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReadTransactionBoundaryTest {
+
+    @Autowired
+    private RestaurantService restaurantService;
+
+    @Autowired
+    private MenuItemService menuItemService;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Long restaurantId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        restaurantId = transactionTemplate.execute(status -> {
+            Restaurant restaurant = new Restaurant("Burger King", "Hyderabad");
+            restaurant.addMenuItem("Burger", 199, null);
+            restaurant.addMenuItem("Fries", 99, null);
+            Long id = restaurantRepository.save(restaurant).getId();
+            restaurantRepository.createMenuVersion(id);
+            return id;
+        });
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            menuItemRepository.deleteAllInBatch();
+            restaurantRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    void testReadResultsSerializeWithoutTouchingTheDatabase() throws Exception {
+        List<Object> results = List.of(
+                restaurantService.getAllRestaurants(),
+                restaurantService.getRestaurantsPage(null, 10),
+                restaurantService.getRestaurantById(restaurantId),
+                restaurantService.getRestaurantVersion(restaurantId),
+                menuItemService.getAllMenuItems(restaurantId),
+                menuItemService.getMenuItemsForRestaurants(List.of(restaurantId)),
+                menuItemService.getMenuItemsPage(restaurantId, null, null, "price", 1, null),
+                menuItemService.getMenuVersion(restaurantId));
+        statistics.clear();
+
+        for (Object result : results) {
+            objectMapper.writeValueAsString(result);
+        }
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    @Test
+    void testLazyLoadOutsideTransactionFails() {
+        Restaurant restaurant = restaurantRepository.findById(restaurantId).orElseThrow();
+
+        assertThrows(LazyInitializationException.class, () -> restaurant.getMenuItems().size());
+    }
+}
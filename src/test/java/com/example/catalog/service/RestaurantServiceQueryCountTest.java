@@ -0,0 +1,86 @@
+package com.example.catalog.service;
+
+import com.example.catalog.Dto.RestaurantPage;
+import com.example.catalog.Dto.RestaurantResponseDto;
+import com.example.catalog.model.Restaurant;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(RestaurantService.class)
+class RestaurantServiceQueryCountTest {
+
+    private static final int RESTAURANTS = 10;
+    private static final int MENU_ITEMS_PER_RESTAURANT = 5;
+
+    @Autowired
+    private RestaurantService restaurantService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < RESTAURANTS; i++) {
+            Restaurant restaurant = new Restaurant("Restaurant " + i, "Address " + i);
+            for (int j = 0; j < MENU_ITEMS_PER_RESTAURANT; j++) {
+                restaurant.addMenuItem("Dish " + j, 100 + j, null);
+            }
+            entityManager.persist(restaurant);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testGetAllRestaurantsUsesTwoStatementsRegardlessOfSize() {
+        List<RestaurantResponseDto> restaurants = restaurantService.getAllRestaurants().getRestaurants();
+
+        assertEquals(RESTAURANTS, restaurants.size());
+        restaurants.forEach(restaurant -> assertEquals(MENU_ITEMS_PER_RESTAURANT, restaurant.getMenuItems().size()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testGetRestaurantsPageUsesTwoStatements() {
+        RestaurantPage page = restaurantService.getRestaurantsPage(null, 4);
+
+        assertEquals(4, page.getRestaurants().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetRestaurantByIdUsesTwoStatements() {
+        Long restaurantId = restaurantService.getAllRestaurants().getRestaurants().get(0).getId();
+        statistics.clear();
+
+        RestaurantResponseDto restaurant = restaurantService.getRestaurantById(restaurantId);
+
+        assertEquals(MENU_ITEMS_PER_RESTAURANT, restaurant.getMenuItems().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+}
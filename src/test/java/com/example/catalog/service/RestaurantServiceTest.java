@@ -1,16 +1,27 @@
 package com.example.catalog.service;
 
+import com.example.catalog.Dto.MenuItemResponseDto;
+import com.example.catalog.Dto.RestaurantPage;
+import com.example.catalog.Dto.RestaurantResponseDto;
+import com.example.catalog.Dto.RestaurantSummaryDto;
+import com.example.catalog.Exceptions.InvalidPageRequestException;
 import com.example.catalog.Exceptions.RestaurantAddressCannotBeNullOrEmptyException;
 import com.example.catalog.Exceptions.RestaurantAlreadyExistsException;
 import com.example.catalog.Exceptions.RestaurantNameCannotBeNullOrEmptyException;
 import com.example.catalog.Exceptions.RestaurantNotFoundException;
+import com.example.catalog.event.RestaurantAddedEvent;
 import com.example.catalog.model.Restaurant;
+import com.example.catalog.repository.MenuItemRepository;
 import com.example.catalog.repository.RestaurantRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
+import java.sql.SQLException;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -19,25 +30,36 @@ import static org.mockito.Mockito.*;
 
 class RestaurantServiceTest {
 
-    @InjectMocks
-    private RestaurantService restaurantService;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_UNPAGED_RESULTS = 2;
+
+    private final RestaurantService restaurantService;
 
     @Mock
     private RestaurantRepository restaurantRepository;
 
+    @Mock
+    private MenuItemRepository menuItemRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     RestaurantServiceTest() {
         MockitoAnnotations.openMocks(this);
+        restaurantService = new RestaurantService(restaurantRepository, menuItemRepository, eventPublisher, MAX_PAGE_SIZE, MAX_UNPAGED_RESULTS);
     }
 
     @Test
     void testAddRestaurantSuccessfully() {
         String name = "Burger King";
         String address = "Hyderabad";
-        when(restaurantRepository.findByNameAndAddress(name, address)).thenReturn(Optional.empty());
+        when(restaurantRepository.saveAndFlush(any(Restaurant.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         restaurantService.addRestaurant(name, address);
 
-        verify(restaurantRepository, times(1)).save(any(Restaurant.class));
+        verify(restaurantRepository, times(1)).saveAndFlush(any(Restaurant.class));
+        verify(restaurantRepository, times(1)).createMenuVersion(any());
+        verify(eventPublisher, times(1)).publishEvent(any(RestaurantAddedEvent.class));
     }
 
     @Test
@@ -49,7 +71,7 @@ class RestaurantServiceTest {
                 restaurantService.addRestaurant(name, address));
 
         assertEquals("Restaurant name cannot be null or empty", exception.getMessage());
-        verify(restaurantRepository, never()).save(any(Restaurant.class));
+        verify(restaurantRepository, never()).saveAndFlush(any(Restaurant.class));
     }
 
     @Test
@@ -61,20 +83,31 @@ class RestaurantServiceTest {
             restaurantService.addRestaurant(name, address));
 
         assertEquals("Restaurant address cannot be null or empty", exception.getMessage());
-        verify(restaurantRepository, never()).save(any(Restaurant.class));
+        verify(restaurantRepository, never()).saveAndFlush(any(Restaurant.class));
     }
 
     @Test
     void testAddRestaurantAlreadyExists() {
         String name = "Burger King";
         String address = "Hyderabad";
-        when(restaurantRepository.findByNameAndAddress(name, address)).thenReturn(Optional.of(new Restaurant(name, address)));
+        when(restaurantRepository.saveAndFlush(any(Restaurant.class))).thenThrow(uniqueViolation(Restaurant.UNIQUE_NAME_ADDRESS));
 
         RestaurantAlreadyExistsException exception = assertThrows(RestaurantAlreadyExistsException.class, () ->
             restaurantService.addRestaurant(name, address));
 
         assertEquals("Restaurant with name 'Burger King' and address 'Hyderabad' already exists", exception.getMessage());
-        verify(restaurantRepository, never()).save(any(Restaurant.class));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testAddRestaurantOtherIntegrityViolationIsNotReportedAsDuplicate() {
+        DataIntegrityViolationException violation = uniqueViolation("fk_some_other_constraint");
+        when(restaurantRepository.saveAndFlush(any(Restaurant.class))).thenThrow(violation);
+
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class, () ->
+                restaurantService.addRestaurant("Burger King", "Hyderabad"));
+
+        assertSame(violation, exception);
     }
 
     @Test
@@ -84,61 +117,127 @@ class RestaurantServiceTest {
         String secondRestaurantName = "Burger King";
         String secondRestaurantAddress = "Bengaluru";
 
-        when(restaurantRepository.findByNameAndAddress(firstRestaurantName, firstRestaurantAddress)).thenReturn(Optional.empty());
-        when(restaurantRepository.findByNameAndAddress(secondRestaurantName, secondRestaurantAddress)).thenReturn(Optional.empty());
+        when(restaurantRepository.saveAndFlush(any(Restaurant.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         restaurantService.addRestaurant(firstRestaurantName, firstRestaurantAddress);
         restaurantService.addRestaurant(secondRestaurantName, secondRestaurantAddress);
 
-        verify(restaurantRepository, times(2)).save(any(Restaurant.class));
+        verify(restaurantRepository, times(2)).saveAndFlush(any(Restaurant.class));
     }
 
     @Test
     void testGetAllRestaurants() {
-        Restaurant restaurant1 = new Restaurant("Burger King", "Hyderabad");
-        Restaurant restaurant2 = new Restaurant("Pizza Hut", "Bengaluru");
+        when(restaurantRepository.findSummaryPageAfter(0L, PageRequest.of(0, MAX_UNPAGED_RESULTS + 1))).thenReturn(Arrays.asList(
+                new RestaurantSummaryDto(1L, "Burger King", "Hyderabad"),
+                new RestaurantSummaryDto(2L, "Pizza Hut", "Bengaluru")));
+        when(menuItemRepository.findByRestaurantIdIn(List.of(1L, 2L))).thenReturn(Arrays.asList(
+                new MenuItemResponseDto(1L, "Whopper", 199, "INR", 1L),
+                new MenuItemResponseDto(2L, "Fries", 99, "INR", 1L)));
+
+        RestaurantPage result = restaurantService.getAllRestaurants();
+
+        assertEquals(2, result.getRestaurants().size());
+        assertEquals(2, result.getRestaurants().get(0).getMenuItems().size());
+        assertEquals(0, result.getRestaurants().get(1).getMenuItems().size());
+        assertNull(result.getNextCursor());
+        verify(menuItemRepository, times(1)).findByRestaurantIdIn(List.of(1L, 2L));
+    }
 
-        when(restaurantRepository.findAll()).thenReturn(Arrays.asList(restaurant1, restaurant2));
+    @Test
+    void testGetAllRestaurantsIsCappedWithACursorToTheRest() {
+        when(restaurantRepository.findSummaryPageAfter(0L, PageRequest.of(0, MAX_UNPAGED_RESULTS + 1))).thenReturn(Arrays.asList(
+                new RestaurantSummaryDto(1L, "Burger King", "Hyderabad"),
+                new RestaurantSummaryDto(2L, "Pizza Hut", "Bengaluru"),
+                new RestaurantSummaryDto(3L, "KFC", "Chennai")));
+        when(menuItemRepository.findByRestaurantIdIn(List.of(1L, 2L))).thenReturn(Collections.emptyList());
 
-        List<Restaurant> result = restaurantService.getAllRestaurants();
+        RestaurantPage result = restaurantService.getAllRestaurants();
 
-        assertEquals(2, result.size());
-        verify(restaurantRepository, times(1)).findAll();
+        assertEquals(MAX_UNPAGED_RESULTS, result.getRestaurants().size());
+        assertEquals(2L, result.getNextCursor());
     }
 
     @Test
     void testGetAllRestaurantsEmpty() {
-        when(restaurantRepository.findAll()).thenReturn(Collections.emptyList());
+        when(restaurantRepository.findSummaryPageAfter(0L, PageRequest.of(0, MAX_UNPAGED_RESULTS + 1))).thenReturn(Collections.emptyList());
 
-        List<Restaurant> result = restaurantService.getAllRestaurants();
+        RestaurantPage result = restaurantService.getAllRestaurants();
 
-        assertEquals(0, result.size());
-        verify(restaurantRepository, times(1)).findAll();
+        assertEquals(0, result.getRestaurants().size());
+        assertNull(result.getNextCursor());
+        verify(menuItemRepository, never()).findByRestaurantIdIn(any());
     }
 
     @Test
     void testGetRestaurantByIdFound() {
         Long restaurantId = 1L;
-        Restaurant restaurant = new Restaurant("Burger King", "Hyderabad");
 
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
+        when(restaurantRepository.findSummaryById(restaurantId))
+                .thenReturn(Optional.of(new RestaurantSummaryDto(restaurantId, "Burger King", "Hyderabad")));
+        when(menuItemRepository.findByRestaurantId(restaurantId))
+                .thenReturn(List.of(new MenuItemResponseDto(1L, "Whopper", 199, "INR", restaurantId)));
 
-        Restaurant result = restaurantService.getRestaurantById(restaurantId);
+        RestaurantResponseDto result = restaurantService.getRestaurantById(restaurantId);
 
-        assertEquals(restaurant, result);
-        verify(restaurantRepository, times(1)).findById(restaurantId);
+        assertEquals("Burger King", result.getName());
+        assertEquals(1, result.getMenuItems().size());
+        verify(restaurantRepository, times(1)).findSummaryById(restaurantId);
     }
 
     @Test
     void testGetRestaurantByIdNotFound() {
         Long restaurantId = 999L;
 
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.empty());
+        when(restaurantRepository.findSummaryById(restaurantId)).thenReturn(Optional.empty());
 
         RestaurantNotFoundException exception = assertThrows(RestaurantNotFoundException.class, () ->
                 restaurantService.getRestaurantById(restaurantId));
 
         assertEquals("Restaurant with id '999' not found", exception.getMessage());
-        verify(restaurantRepository, times(1)).findById(restaurantId);
+        verify(restaurantRepository, times(1)).findSummaryById(restaurantId);
+        verify(menuItemRepository, never()).findByRestaurantId(anyLong());
+    }
+
+    @Test
+    void testGetRestaurantsPageWithNextCursor() {
+        when(restaurantRepository.findSummaryPageAfter(0L, PageRequest.of(0, 3))).thenReturn(Arrays.asList(
+                new RestaurantSummaryDto(1L, "Burger King", "Hyderabad"),
+                new RestaurantSummaryDto(2L, "Pizza Hut", "Bengaluru"),
+                new RestaurantSummaryDto(3L, "KFC", "Chennai")));
+        when(menuItemRepository.findByRestaurantIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(new MenuItemResponseDto(1L, "Whopper", 199, "INR", 1L)));
+
+        RestaurantPage page = restaurantService.getRestaurantsPage(null, 2);
+
+        assertEquals(2, page.getRestaurants().size());
+        assertEquals(1, page.getRestaurants().get(0).getMenuItems().size());
+        assertEquals(2L, page.getNextCursor());
+        verify(menuItemRepository, times(1)).findByRestaurantIdIn(List.of(1L, 2L));
+    }
+
+    @Test
+    void testGetRestaurantsPageLastPage() {
+        when(restaurantRepository.findSummaryPageAfter(2L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(new RestaurantSummaryDto(3L, "KFC", "Chennai")));
+        when(menuItemRepository.findByRestaurantIdIn(List.of(3L))).thenReturn(Collections.emptyList());
+
+        RestaurantPage page = restaurantService.getRestaurantsPage(2L, 2);
+
+        assertEquals(1, page.getRestaurants().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testGetRestaurantsPageWithInvalidLimit() {
+        InvalidPageRequestException exception = assertThrows(InvalidPageRequestException.class, () ->
+                restaurantService.getRestaurantsPage(null, MAX_PAGE_SIZE + 1));
+
+        assertEquals("Page size must be between 1 and 500", exception.getMessage());
+        verify(restaurantRepository, never()).findSummaryPageAfter(anyLong(), any());
+    }
+
+    private DataIntegrityViolationException uniqueViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate key value violates unique constraint", new SQLException(), constraintName));
     }
 }
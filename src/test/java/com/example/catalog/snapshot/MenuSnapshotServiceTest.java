@@ -0,0 +1,130 @@
+package com.example.catalog.snapshot;
+
+import com.example.catalog.Dto.MenuItemResponseDto;
+import com.example.catalog.Dto.RestaurantVersionDto;
+import com.example.catalog.Exceptions.RestaurantNotFoundException;
+import com.example.catalog.datasource.ReadYourWrites;
+import com.example.catalog.event.MenuItemAddedEvent;
+import com.example.catalog.repository.MenuItemRepository;
+import com.example.catalog.repository.RestaurantRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MenuSnapshotServiceTest {
+
+    @Mock
+    private MenuItemRepository menuItemRepository;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private MenuSnapshotService menuSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        menuSnapshotService = new MenuSnapshotService(menuItemRepository, restaurantRepository, TransactionOperations.withoutTransaction(),
+                objectMapper, scheduled::add, 1 << 20, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void testSnapshotIsReusedForTheSameVersion() throws Exception {
+        List<MenuItemResponseDto> menuItems = List.of(new MenuItemResponseDto(1L, "Pasta", 199, "INR", 1L));
+        when(restaurantRepository.findVersionById(1L)).thenReturn(Optional.of(version(1L, 3L)));
+        when(menuItemRepository.findByRestaurantId(1L)).thenReturn(menuItems);
+
+        MenuSnapshot first = menuSnapshotService.getSnapshot(1L, version(1L, 3L));
+        MenuSnapshot second = menuSnapshotService.getSnapshot(1L, version(1L, 3L));
+
+        assertSame(first, second);
+        assertArrayEquals(objectMapper.writeValueAsBytes(menuItems), first.getJson());
+        verify(menuItemRepository, times(1)).findByRestaurantId(1L);
+    }
+
+    @Test
+    void testNewerVersionRebuildsTheSnapshot() {
+        when(restaurantRepository.findVersionById(1L)).thenReturn(Optional.of(version(1L, 3L)), Optional.of(version(1L, 4L)));
+        when(menuItemRepository.findByRestaurantId(1L)).thenReturn(List.of());
+
+        menuSnapshotService.getSnapshot(1L, version(1L, 3L));
+        MenuSnapshot snapshot = menuSnapshotService.getSnapshot(1L, version(1L, 4L));
+
+        assertEquals(4L, snapshot.getVersion());
+        verify(menuItemRepository, times(2)).findByRestaurantId(1L);
+    }
+
+    @Test
+    void testMissIsLabelledWithTheVersionItsItemsWereReadWith() throws Exception {
+        List<MenuItemResponseDto> menuItems = List.of(
+                new MenuItemResponseDto(1L, "Pasta", 199, "INR", 1L),
+                new MenuItemResponseDto(2L, "Pizza", 299, "INR", 1L));
+        // The caller's version is older than the menu the database now holds.
+        when(restaurantRepository.findVersionById(1L)).thenReturn(Optional.of(version(1L, 4L)));
+        when(menuItemRepository.findByRestaurantId(1L)).thenReturn(menuItems);
+
+        MenuSnapshot snapshot = menuSnapshotService.getSnapshot(1L, version(1L, 3L));
+
+        assertEquals(4L, snapshot.getVersion());
+        assertArrayEquals(objectMapper.writeValueAsBytes(menuItems), snapshot.getJson());
+        assertSame(snapshot, menuSnapshotService.getSnapshot(1L, version(1L, 4L)));
+    }
+
+    @Test
+    void testReadYourWritesBypassesTheSnapshotCache() {
+        when(restaurantRepository.findVersionById(1L)).thenReturn(Optional.of(version(1L, 3L)));
+        when(menuItemRepository.findByRestaurantId(1L)).thenReturn(List.of());
+        MenuSnapshot cached = menuSnapshotService.getSnapshot(1L, version(1L, 3L));
+
+        ReadYourWrites.begin();
+        try {
+            assertNotSame(cached, menuSnapshotService.getSnapshot(1L, version(1L, 3L)));
+        } finally {
+            ReadYourWrites.end();
+        }
+
+        assertSame(cached, menuSnapshotService.getSnapshot(1L, version(1L, 3L)));
+        verify(menuItemRepository, times(2)).findByRestaurantId(1L);
+    }
+
+    @Test
+    void testMissForAnUnknownRestaurant() {
+        when(restaurantRepository.findVersionById(999L)).thenReturn(Optional.empty());
+
+        assertThrows(RestaurantNotFoundException.class, () -> menuSnapshotService.getSnapshot(999L, version(999L, 1L)));
+    }
+
+    @Test
+    void testMenuChangeRebuildsInTheBackgroundOncePerRestaurant() {
+        when(restaurantRepository.findVersionById(1L)).thenReturn(Optional.of(version(1L, 5L)));
+        when(menuItemRepository.findByRestaurantId(1L)).thenReturn(List.of(new MenuItemResponseDto(1L, "Pasta", 199, "INR", 1L)));
+
+        menuSnapshotService.onMenuItemAdded(new MenuItemAddedEvent(1L, 1L, "Pasta", 199, "INR"));
+        menuSnapshotService.onMenuItemAdded(new MenuItemAddedEvent(1L, 2L, "Pizza", 299, "INR"));
+        assertEquals(1, scheduled.size());
+        scheduled.get(0).run();
+
+        MenuSnapshot snapshot = menuSnapshotService.getSnapshot(1L, version(1L, 5L));
+
+        assertEquals(5L, snapshot.getVersion());
+        verify(menuItemRepository, times(1)).findByRestaurantId(1L);
+    }
+
+    private RestaurantVersionDto version(Long restaurantId, long version) {
+        return new RestaurantVersionDto(restaurantId, version, Instant.parse("2024-10-01T10:00:00Z"));
+    }
+}
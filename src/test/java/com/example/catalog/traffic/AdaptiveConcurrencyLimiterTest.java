@@ -0,0 +1,101 @@
+package com.example.catalog.traffic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Test
+    void testRejectsBeyondTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 2.0, 0.5, 10);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        limiter.release();
+        assertTrue(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    void testLimitShrinksWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 2, 10, 2.0, 0.5, 4);
+
+        runWindow(limiter, FAST, false);
+        assertEquals(8, limiter.getLimit());
+
+        runWindow(limiter, SLOW, false);
+        assertEquals(4, limiter.getLimit());
+
+        runWindow(limiter, SLOW, false);
+        assertEquals(2, limiter.getLimit());
+        runWindow(limiter, SLOW, false);
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void testLimitShrinksOnServerErrors() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 2, 10, 2.0, 0.5, 4);
+
+        runWindow(limiter, FAST, true);
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void testLimitGrowsWhileRejectingWithHealthyLatency() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 2, 5, 2.0, 0.5, 4);
+
+        runWindow(limiter, FAST, false);
+        assertEquals(4, limiter.getLimit());
+
+        assertFalse(saturateAndReject(limiter));
+        runWindow(limiter, FAST, false);
+        assertEquals(5, limiter.getLimit());
+
+        assertFalse(saturateAndReject(limiter));
+        runWindow(limiter, FAST, false);
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    void testCacheHeavyWindowDoesNotPinTheBaseline() {
+        long mixed = TimeUnit.MILLISECONDS.toNanos(3);
+        long cacheHits = TimeUnit.MICROSECONDS.toNanos(500);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 2, 10, 2.0, 0.5, 4);
+
+        for (int i = 0; i < 5; i++) {
+            runWindow(limiter, mixed, false);
+        }
+        runWindow(limiter, cacheHits, false);
+        for (int i = 0; i < 20; i++) {
+            runWindow(limiter, i % 2 == 0 ? mixed : TimeUnit.MILLISECONDS.toNanos(4), false);
+        }
+
+        assertEquals(8, limiter.getLimit());
+    }
+
+    private void runWindow(AdaptiveConcurrencyLimiter limiter, long latencyNanos, boolean failed) {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(latencyNanos, failed);
+        }
+    }
+
+    private boolean saturateAndReject(AdaptiveConcurrencyLimiter limiter) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release();
+        }
+        return limiter.getInFlight() != 0;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.catalog.traffic;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ClientIpRateLimitFilterTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private ClientIpRateLimitFilter filter;
+    private MockFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ClientIpRateLimitFilter(new TokenBucketRateLimiter(0.5, 2, 1000, Duration.ofMinutes(1), clock::get));
+    }
+
+    @Test
+    void testRequestsWithCredentialsAreLimitedPerIpBeforeAuthentication() throws Exception {
+        assertEquals(200, perform("10.0.0.1").getStatus());
+        assertEquals(200, perform("10.0.0.1").getStatus());
+
+        MockHttpServletResponse rejected = perform("10.0.0.1");
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("2", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertNull(chain.getRequest());
+        assertEquals(200, perform("10.0.0.2").getStatus());
+    }
+
+    private MockHttpServletResponse perform(String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/catalog/restaurants");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Basic YWRtaW46Z3Vlc3M=");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
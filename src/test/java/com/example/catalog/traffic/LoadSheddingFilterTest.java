@@ -0,0 +1,61 @@
+package com.example.catalog.traffic;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadSheddingFilterTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    // One request per window, so every release adjusts the limit.
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 10, 2.0, 0.5, 1);
+    private final LoadSheddingFilter filter = new LoadSheddingFilter(limiter, clock::get);
+
+    @Test
+    void testRejectsOnceTheLimitIsReached() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(), response, new MockFilterChain());
+
+        assertEquals(503, response.getStatus());
+        assertEquals("Service Unavailable: Server is overloaded, retry shortly", response.getContentAsString());
+    }
+
+    @Test
+    void testAsyncRequestHoldsItsSlotUntilCompletion() throws Exception {
+        filter.doFilter(request(), new MockHttpServletResponse(), (req, res) -> clock.addAndGet(FAST));
+        assertEquals(4, limiter.getLimit());
+
+        MockHttpServletRequest request = request();
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.startAsync(req, res);
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        });
+
+        assertEquals(1, limiter.getInFlight());
+
+        clock.addAndGet(SLOW);
+        request.getAsyncContext().complete();
+
+        assertEquals(0, limiter.getInFlight());
+        // The sample spans the whole async request, not just the handler that started it.
+        assertEquals(2, limiter.getLimit());
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/catalog/restaurants");
+        request.setAsyncSupported(true);
+        return request;
+    }
+}
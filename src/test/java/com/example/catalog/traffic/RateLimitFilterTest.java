@@ -0,0 +1,81 @@
+package com.example.catalog.traffic;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RateLimitFilter(
+                new TokenBucketRateLimiter(0.5, 2, 1000, Duration.ofMinutes(1), clock::get),
+                new TokenBucketRateLimiter(10, 4, 1000, Duration.ofMinutes(1), clock::get));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testAnonymousClientsAreLimitedPerIp() throws Exception {
+        assertEquals(200, perform("10.0.0.1").getStatus());
+        assertEquals(200, perform("10.0.0.1").getStatus());
+
+        MockHttpServletResponse rejected = perform("10.0.0.1");
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("2", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals("Too Many Requests: Rate limit exceeded", rejected.getContentAsString());
+        assertEquals(200, perform("10.0.0.2").getStatus());
+    }
+
+    @Test
+    void testAuthenticatedClientsAreLimitedPerPrincipal() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("admin", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN")));
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(200, perform("10.0.0." + i).getStatus());
+        }
+        MockHttpServletResponse rejected = perform("10.0.0.9");
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("1", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void testRequestsOutsideTheCatalogAreNotLimited() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            assertEquals(200, response.getStatus());
+        }
+    }
+
+    private MockHttpServletResponse perform(String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/catalog/restaurants");
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.catalog.traffic;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private TokenBucketRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        clock.set(TimeUnit.HOURS.toNanos(1));
+        limiter = new TokenBucketRateLimiter(10, 5, 1000, Duration.ofMinutes(1), clock::get);
+    }
+
+    @Test
+    void testBurstIsAllowedThenRejected() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("client"));
+        }
+
+        long wait = limiter.tryAcquire("client");
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), wait);
+    }
+
+    @Test
+    void testTokensRefillAtTheConfiguredRate() {
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("client");
+        }
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(0, limiter.tryAcquire("client"));
+        assertTrue(limiter.tryAcquire("client") > 0);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("client"));
+        }
+        assertTrue(limiter.tryAcquire("client") > 0);
+    }
+
+    @Test
+    void testKeysAreLimitedIndependently() {
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("first");
+        }
+
+        assertTrue(limiter.tryAcquire("first") > 0);
+        assertEquals(0, limiter.tryAcquire("second"));
+        assertEquals(2, limiter.trackedKeys());
+    }
+
+    @Test
+    void testRejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(0, 5, 1000, Duration.ofMinutes(1), clock::get));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(10, 0, 1000, Duration.ofMinutes(1), clock::get));
+    }
+}